@@ -1,17 +1,32 @@
 package roomescape.admin.presentation;
 
 import static roomescape.admin.presentation.AdminController.ADMIN_BASE_URL;
+import static roomescape.common.idempotency.IdempotencyStore.IDEMPOTENCY_KEY_HEADER;
 import static roomescape.member.presentation.MemberController.RESERVATION_BASE_URL;
 
 import java.net.URI;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import roomescape.admin.dto.AdminReservationRequest;
+import roomescape.common.idempotency.IdempotencyStore;
+import roomescape.reservation.dto.request.ReservationBulkCancelRequest;
+import roomescape.reservation.dto.request.ReservationConditionRequest;
+import roomescape.reservation.dto.response.ReservationBulkCancelResponse;
 import roomescape.reservation.dto.response.ReservationResponse;
+import roomescape.reservation.service.ReservationExportFormat;
+import roomescape.reservation.service.ReservationExportService;
 import roomescape.reservation.service.ReservationService;
+import roomescape.theme.service.ThemeService;
 
 @RestController
 @RequestMapping(ADMIN_BASE_URL)
@@ -19,18 +34,58 @@ public class AdminController {
 
     public static final String ADMIN_BASE_URL = "/admin";
     private static final String SLASH = "/";
+    private static final String IDEMPOTENCY_SCOPE = "admin-reservation";
 
     private final ReservationService reservationService;
+    private final IdempotencyStore idempotencyStore;
+    private final ThemeService themeService;
+    private final ReservationExportService reservationExportService;
 
-    public AdminController(ReservationService reservationService) {
+    public AdminController(ReservationService reservationService, IdempotencyStore idempotencyStore,
+                           ThemeService themeService, ReservationExportService reservationExportService) {
         this.reservationService = reservationService;
+        this.idempotencyStore = idempotencyStore;
+        this.themeService = themeService;
+        this.reservationExportService = reservationExportService;
     }
 
     @PostMapping("/reservations")
-    public ResponseEntity<ReservationResponse> createReservation(@RequestBody final AdminReservationRequest request) {
-        ReservationResponse response = reservationService.createReservation(request.getReservationRequest(),
-                request.memberId());
+    public ResponseEntity<ReservationResponse> createReservation(
+            @RequestBody final AdminReservationRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey
+    ) {
+        ReservationResponse response = idempotencyStore.execute(IDEMPOTENCY_SCOPE, idempotencyKey, request,
+                () -> reservationService.createReservation(request.getReservationRequest(), request.memberId()));
         URI locationUri = URI.create(RESERVATION_BASE_URL + SLASH + response.id());
         return ResponseEntity.created(locationUri).body(response);
     }
+
+    @PostMapping("/reservations/cancel")
+    public ResponseEntity<ReservationBulkCancelResponse> cancelReservations(
+            @RequestBody final ReservationBulkCancelRequest request
+    ) {
+        ReservationBulkCancelResponse response = reservationService.cancelReservations(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/reservations/export")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @ModelAttribute final ReservationConditionRequest request,
+            @RequestParam(defaultValue = "csv") final String format
+    ) {
+        ReservationExportFormat exportFormat = ReservationExportFormat.from(format);
+        StreamingResponseBody body = outputStream -> reservationExportService.export(request, exportFormat,
+                outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"reservations." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @PostMapping("/themes/daily-counts/rebuild")
+    public ResponseEntity<Void> rebuildThemeDailyCounts() {
+        themeService.rebuildDailyCounts();
+        return ResponseEntity.noContent().build();
+    }
 }
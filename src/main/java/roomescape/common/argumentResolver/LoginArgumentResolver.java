@@ -6,17 +6,17 @@ import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
-import roomescape.common.util.TokenCookieManager;
+import roomescape.common.auth.AuthContext;
 import roomescape.member.dto.request.LoginMember;
 import roomescape.member.service.LoginService;
 
 public class LoginArgumentResolver implements HandlerMethodArgumentResolver {
     private final LoginService loginService;
-    private final TokenCookieManager tokenCookieManager;
+    private final AuthContext authContext;
 
-    public LoginArgumentResolver(LoginService loginService, TokenCookieManager tokenCookieManager) {
+    public LoginArgumentResolver(LoginService loginService, AuthContext authContext) {
         this.loginService = loginService;
-        this.tokenCookieManager = tokenCookieManager;
+        this.authContext = authContext;
     }
 
     @Override
@@ -31,7 +31,6 @@ public class LoginArgumentResolver implements HandlerMethodArgumentResolver {
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        String token = tokenCookieManager.extractTokenFromCookie(request);
-        return loginService.loginCheck(token);
+        return loginService.loginCheck(authContext.claims(request));
     }
 }
@@ -0,0 +1,11 @@
+package roomescape.common.auth;
+
+import java.time.Instant;
+import roomescape.member.domain.Role;
+
+public record AuthClaims(Long memberId, Role role, Instant expiresAt) {
+
+    public boolean isExpiredAt(final Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
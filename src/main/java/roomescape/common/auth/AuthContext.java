@@ -0,0 +1,29 @@
+package roomescape.common.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import roomescape.common.util.TokenCookieManager;
+
+@Component
+public class AuthContext {
+
+    private static final String CLAIMS_ATTRIBUTE = AuthContext.class.getName() + ".claims";
+
+    private final TokenCookieManager tokenCookieManager;
+    private final TokenProvider tokenProvider;
+
+    public AuthContext(final TokenCookieManager tokenCookieManager, final TokenProvider tokenProvider) {
+        this.tokenCookieManager = tokenCookieManager;
+        this.tokenProvider = tokenProvider;
+    }
+
+    public AuthClaims claims(final HttpServletRequest request) {
+        if (request.getAttribute(CLAIMS_ATTRIBUTE) instanceof AuthClaims claims) {
+            return claims;
+        }
+        String token = tokenCookieManager.extractTokenFromCookie(request);
+        AuthClaims claims = tokenProvider.verify(token);
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        return claims;
+    }
+}
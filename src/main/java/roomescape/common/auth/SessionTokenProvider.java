@@ -0,0 +1,252 @@
+package roomescape.common.auth;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import roomescape.common.exception.LoginException;
+import roomescape.common.util.DateTime;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRepository;
+import roomescape.member.domain.Role;
+
+@Component
+@ConditionalOnProperty(name = "security.auth.mode", havingValue = "session")
+public class SessionTokenProvider implements TokenProvider {
+
+    private static final int STRIPE_COUNT = 16;
+    private static final int SESSION_ID_BYTES = 32;
+    private static final String SNAPSHOT_DELIMITER = "\t";
+    private static final int SNAPSHOT_FIELD_COUNT = 4;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final DateTime dateTime;
+    private final MemberRepository memberRepository;
+    private final SecretKeySpec signingKey;
+    private final long ttlMinutes;
+    private final int maxSessionsPerStripe;
+    private final Path snapshotPath;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final Map<String, Session>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public SessionTokenProvider(final DateTime dateTime,
+                                final MemberRepository memberRepository,
+                                @Value("${security.jwt.token.secret-key}") final String secretKey,
+                                @Value("${security.session.ttl-minutes:30}") final long ttlMinutes,
+                                @Value("${security.session.max-sessions:100000}") final int maxSessions,
+                                @Value("${security.session.snapshot-path:}") final String snapshotPath) {
+        if (ttlMinutes < 1 || maxSessions < STRIPE_COUNT) {
+            throw new IllegalArgumentException("세션 설정이 올바르지 않습니다.");
+        }
+        this.dateTime = dateTime;
+        this.memberRepository = memberRepository;
+        this.signingKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), SIGNATURE_ALGORITHM);
+        this.ttlMinutes = ttlMinutes;
+        this.maxSessionsPerStripe = maxSessions / STRIPE_COUNT;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.stripes = new Map[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    @Override
+    public String issue(final Member member, final LocalDateTime now) {
+        byte[] bytes = new byte[SESSION_ID_BYTES];
+        secureRandom.nextBytes(bytes);
+        String sessionId = ENCODER.encodeToString(bytes);
+        String key = digest(sessionId);
+
+        Map<String, Session> stripe = stripeOf(key);
+        if (stripe.size() >= maxSessionsPerStripe) {
+            evict(stripe, now);
+        }
+        stripe.put(key, new Session(member.getId(), Role.findRole(member.getRole()),
+                now.plusMinutes(ttlMinutes)));
+        return sessionId;
+    }
+
+    @Override
+    public AuthClaims verify(final String token) {
+        LocalDateTime now = dateTime.now();
+        String key = digest(token);
+        Session session = stripeOf(key).computeIfPresent(key, (id, current) -> {
+            if (current.isExpiredAt(now)) {
+                return null;
+            }
+            return current.slideTo(now.plusMinutes(ttlMinutes));
+        });
+        if (session == null) {
+            throw new LoginException("유효하지 않은 세션입니다.");
+        }
+        return session.toClaims();
+    }
+
+    @Override
+    public void revoke(final String token) {
+        String key = digest(token);
+        stripeOf(key).remove(key);
+    }
+
+    @Scheduled(fixedDelayString = "${security.session.sweep-millis:60000}")
+    public void sweepExpiredSessions() {
+        LocalDateTime now = dateTime.now();
+        for (Map<String, Session> stripe : stripes) {
+            stripe.values().removeIf(session -> session.isExpiredAt(now));
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, Session> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    @PostConstruct
+    public void restoreSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return;
+        }
+        LocalDateTime now = dateTime.now();
+        Map<Long, Optional<Role>> roles = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(snapshotPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(SNAPSHOT_DELIMITER);
+                if (parts.length != SNAPSHOT_FIELD_COUNT || !isSigned(parts)) {
+                    continue;
+                }
+                Long memberId;
+                LocalDateTime expiresAt;
+                try {
+                    memberId = Long.parseLong(parts[1]);
+                    expiresAt = LocalDateTime.parse(parts[2]);
+                } catch (NumberFormatException | DateTimeParseException e) {
+                    continue;
+                }
+                if (!expiresAt.isAfter(now)) {
+                    continue;
+                }
+                Optional<Role> role = roles.computeIfAbsent(memberId, id -> memberRepository.findById(id)
+                        .map(member -> Role.findRole(member.getRole())));
+                role.ifPresent(value -> stripeOf(parts[0]).put(parts[0], new Session(memberId, value, expiresAt)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void writeSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        LocalDateTime now = dateTime.now();
+        try {
+            Path absolutePath = snapshotPath.toAbsolutePath();
+            Files.createDirectories(absolutePath.getParent());
+            Path temporary = Files.createTempFile(absolutePath.getParent(), "sessions", ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                for (Map<String, Session> stripe : stripes) {
+                    for (Map.Entry<String, Session> entry : stripe.entrySet()) {
+                        Session session = entry.getValue();
+                        if (session.isExpiredAt(now)) {
+                            continue;
+                        }
+                        String fields = String.join(SNAPSHOT_DELIMITER, entry.getKey(),
+                                session.memberId().toString(), session.expiresAt().toString());
+                        writer.write(fields + SNAPSHOT_DELIMITER + sign(fields));
+                        writer.newLine();
+                    }
+                }
+            }
+            Files.move(temporary, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String digest(final String sessionId) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            return ENCODER.encodeToString(messageDigest.digest(sessionId.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String sign(final String fields) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(signingKey);
+            return ENCODER.encodeToString(mac.doFinal(fields.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean isSigned(final String[] parts) {
+        String fields = String.join(SNAPSHOT_DELIMITER, parts[0], parts[1], parts[2]);
+        return MessageDigest.isEqual(sign(fields).getBytes(StandardCharsets.UTF_8),
+                parts[3].getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, Session> stripeOf(final String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    private void evict(final Map<String, Session> stripe, final LocalDateTime now) {
+        stripe.values().removeIf(session -> session.isExpiredAt(now));
+        Iterator<String> iterator = stripe.keySet().iterator();
+        while (stripe.size() >= maxSessionsPerStripe && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Session(Long memberId, Role role, LocalDateTime expiresAt) {
+
+        private boolean isExpiredAt(final LocalDateTime now) {
+            return !expiresAt.isAfter(now);
+        }
+
+        private Session slideTo(final LocalDateTime expiresAt) {
+            return new Session(memberId, role, expiresAt);
+        }
+
+        private AuthClaims toClaims() {
+            return new AuthClaims(memberId, role, expiresAt.atZone(ZoneId.systemDefault()).toInstant());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package roomescape.common.auth;
+
+import java.time.LocalDateTime;
+import roomescape.member.domain.Member;
+
+public interface TokenProvider {
+
+    String issue(Member member, LocalDateTime now);
+
+    AuthClaims verify(String token);
+
+    void revoke(String token);
+}
@@ -0,0 +1,106 @@
+package roomescape.common.catalog;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.domain.ReservationTimeRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.domain.ThemeRepository;
+
+@Component
+public class ReferenceCatalog {
+
+    private final ThemeRepository themeRepository;
+    private final ReservationTimeRepository reservationTimeRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    public ReferenceCatalog(final ThemeRepository themeRepository,
+                            final ReservationTimeRepository reservationTimeRepository) {
+        this.themeRepository = themeRepository;
+        this.reservationTimeRepository = reservationTimeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        Map<Long, Theme> themes = new TreeMap<>();
+        for (Theme theme : themeRepository.findAll()) {
+            themes.put(theme.getId(), theme);
+        }
+        Map<Long, ReservationTime> times = new TreeMap<>();
+        for (ReservationTime time : reservationTimeRepository.findAll()) {
+            times.put(time.getId(), time);
+        }
+        snapshot.updateAndGet(current -> new Snapshot(current.version() + 1, themes, times));
+    }
+
+    public long getVersion() {
+        return snapshot.get().version();
+    }
+
+    public Optional<Theme> findTheme(final Long id) {
+        return Optional.ofNullable(snapshot.get().themes().get(id));
+    }
+
+    public Optional<ReservationTime> findTime(final Long id) {
+        return Optional.ofNullable(snapshot.get().times().get(id));
+    }
+
+    public List<Theme> getThemes() {
+        return List.copyOf(snapshot.get().themes().values());
+    }
+
+    public List<ReservationTime> getTimes() {
+        return List.copyOf(snapshot.get().times().values());
+    }
+
+    public void putTheme(final Theme theme) {
+        snapshot.updateAndGet(current -> current.withThemes(copyWith(current.themes(), theme.getId(), theme)));
+    }
+
+    public void removeTheme(final Long id) {
+        snapshot.updateAndGet(current -> current.withThemes(copyWith(current.themes(), id, null)));
+    }
+
+    public void putTime(final ReservationTime time) {
+        snapshot.updateAndGet(current -> current.withTimes(copyWith(current.times(), time.getId(), time)));
+    }
+
+    public void removeTime(final Long id) {
+        snapshot.updateAndGet(current -> current.withTimes(copyWith(current.times(), id, null)));
+    }
+
+    private static <T> Map<Long, T> copyWith(final Map<Long, T> source, final Long id, final T value) {
+        Map<Long, T> copy = new TreeMap<>(source);
+        if (value == null) {
+            copy.remove(id);
+            return copy;
+        }
+        copy.put(id, value);
+        return copy;
+    }
+
+    private record Snapshot(long version, Map<Long, Theme> themes, Map<Long, ReservationTime> times) {
+
+        private static final Snapshot EMPTY = new Snapshot(0, Map.of(), Map.of());
+
+        private Snapshot {
+            themes = Collections.unmodifiableMap(themes);
+            times = Collections.unmodifiableMap(times);
+        }
+
+        private Snapshot withThemes(final Map<Long, Theme> themes) {
+            return new Snapshot(version + 1, themes, times);
+        }
+
+        private Snapshot withTimes(final Map<Long, ReservationTime> times) {
+            return new Snapshot(version + 1, themes, times);
+        }
+    }
+}
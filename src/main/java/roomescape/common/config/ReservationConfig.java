@@ -6,33 +6,29 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import roomescape.common.argumentResolver.LoginArgumentResolver;
+import roomescape.common.auth.AuthContext;
 import roomescape.common.interceptor.AdminInterceptor;
-import roomescape.common.util.JwtTokenContainer;
-import roomescape.common.util.TokenCookieManager;
 import roomescape.member.service.LoginService;
 
 @Configuration
 public class ReservationConfig implements WebMvcConfigurer {
 
     private final LoginService loginService;
-    private final TokenCookieManager tokenCookieManager;
-    private final JwtTokenContainer jwtTokenContainer;
+    private final AuthContext authContext;
 
-    public ReservationConfig(LoginService loginService, TokenCookieManager tokenCookieManager,
-                             JwtTokenContainer jwtTokenContainer) {
+    public ReservationConfig(LoginService loginService, AuthContext authContext) {
         this.loginService = loginService;
-        this.tokenCookieManager = tokenCookieManager;
-        this.jwtTokenContainer = jwtTokenContainer;
+        this.authContext = authContext;
     }
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-        resolvers.add(new LoginArgumentResolver(loginService, tokenCookieManager));
+        resolvers.add(new LoginArgumentResolver(loginService, authContext));
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new AdminInterceptor(tokenCookieManager, jwtTokenContainer))
+        registry.addInterceptor(new AdminInterceptor(authContext))
                 .addPathPatterns("/admin/**");
     }
 }
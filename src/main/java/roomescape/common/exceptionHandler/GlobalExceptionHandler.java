@@ -1,12 +1,15 @@
 package roomescape.common.exceptionHandler;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.BeanInstantiationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import roomescape.common.exception.LoginException;
+import roomescape.common.exception.ServiceUnavailableException;
+import roomescape.common.exception.TooManyRequestsException;
 import roomescape.common.exceptionHandler.dto.ExceptionResponse;
 
 @ControllerAdvice
@@ -23,6 +26,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(exceptionResponse);
     }
 
+    @ExceptionHandler(value = TooManyRequestsException.class)
+    public ResponseEntity<ExceptionResponse> tooManyRequests(
+            final TooManyRequestsException exception, final HttpServletRequest request
+    ) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(
+                EXCEPTION_PREFIX + exception.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(exceptionResponse);
+    }
+
+    @ExceptionHandler(value = ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> serviceUnavailable(
+            final ServiceUnavailableException exception, final HttpServletRequest request
+    ) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(
+                EXCEPTION_PREFIX + exception.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(exceptionResponse);
+    }
+
     @ExceptionHandler(value = IllegalArgumentException.class)
     public ResponseEntity<ExceptionResponse> invalidInput(
             final IllegalArgumentException exception, final HttpServletRequest request
@@ -57,6 +78,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(exceptionResponse);
     }
 
+    @ExceptionHandler(value = BeanInstantiationException.class)
+    public ResponseEntity<ExceptionResponse> notInstantiable(
+            final BeanInstantiationException exception, final HttpServletRequest request
+    ) {
+        Throwable rootCause = exception.getRootCause();
+        if (rootCause instanceof IllegalArgumentException) {
+            ExceptionResponse exceptionResponse = new ExceptionResponse(
+                    EXCEPTION_PREFIX + rootCause.getMessage(), request.getRequestURI()
+            );
+            return ResponseEntity.badRequest().body(exceptionResponse);
+        }
+
+        ExceptionResponse exceptionResponse = new ExceptionResponse(
+                EXCEPTION_PREFIX + "요청 입력이 잘못되었습니다.", request.getRequestURI()
+        );
+        return ResponseEntity.badRequest().body(exceptionResponse);
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ExceptionResponse> unknownException(final HttpServletRequest request) {
         ExceptionResponse exceptionResponse = new ExceptionResponse(
@@ -0,0 +1,163 @@
+package roomescape.common.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import roomescape.common.exception.TooManyRequestsException;
+import roomescape.common.util.DateTime;
+
+@Component
+public class IdempotencyStore {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final int STRIPE_COUNT = 16;
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final DateTime dateTime;
+    private final long ttlSeconds;
+    private final Stripe[] stripes;
+
+    public IdempotencyStore(final DateTime dateTime,
+                            @Value("${idempotency.max-entries:10000}") final int maxEntries,
+                            @Value("${idempotency.ttl-seconds:86400}") final long ttlSeconds) {
+        if (maxEntries < STRIPE_COUNT || ttlSeconds < 1) {
+            throw new IllegalArgumentException("멱등성 저장소 설정이 올바르지 않습니다.");
+        }
+        this.dateTime = dateTime;
+        this.ttlSeconds = ttlSeconds;
+        this.stripes = new Stripe[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe(maxEntries / STRIPE_COUNT);
+        }
+    }
+
+    public <T> T execute(final String scope, final String key, final Object request, final Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 255자 이하여야 합니다.");
+        }
+
+        String scopedKey = scope + ":" + key;
+        Stripe stripe = stripeOf(scopedKey);
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Entry existing = stripe.putIfAbsent(scopedKey, new Entry(request, result, expiresAt()), dateTime.now());
+        if (existing != null) {
+            return replay(existing, request);
+        }
+
+        try {
+            T response = action.get();
+            result.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            stripe.remove(scopedKey, result);
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T replay(final Entry entry, final Object request) {
+        if (!Objects.equals(entry.request(), request)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+        }
+        try {
+            return (T) entry.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private LocalDateTime expiresAt() {
+        return dateTime.now().plusSeconds(ttlSeconds);
+    }
+
+    private Stripe stripeOf(final String key) {
+        return stripes[Math.floorMod(key.hashCode(), STRIPE_COUNT)];
+    }
+
+    private record Entry(Object request, CompletableFuture<Object> result, LocalDateTime expiresAt) {
+
+        boolean isExpired(final LocalDateTime now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    private static class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+        private final int capacity;
+
+        Stripe(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        Entry putIfAbsent(final String key, final Entry entry, final LocalDateTime now) {
+            lock.lock();
+            try {
+                evictExpired(now);
+                Entry existing = entries.get(key);
+                if (existing != null) {
+                    return existing;
+                }
+                if (entries.size() >= capacity) {
+                    evictEldest();
+                }
+                entries.put(key, entry);
+                return null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(final String key, final CompletableFuture<Object> result) {
+            lock.lock();
+            try {
+                Entry entry = entries.get(key);
+                if (entry != null && entry.result() == result) {
+                    entries.remove(key);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void evictExpired(final LocalDateTime now) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (!entry.isExpired(now)) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+
+        private void evictEldest() {
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Entry> eldest = iterator.next();
+                if (eldest.getValue().result().isDone()) {
+                    iterator.remove();
+                    return;
+                }
+            }
+            throw new TooManyRequestsException("처리 중인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
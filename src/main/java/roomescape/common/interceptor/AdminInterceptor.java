@@ -5,27 +5,23 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
+import roomescape.common.auth.AuthContext;
 import roomescape.common.exception.LoginException;
-import roomescape.common.util.JwtTokenContainer;
-import roomescape.common.util.TokenCookieManager;
 import roomescape.member.domain.Role;
 
 public class AdminInterceptor implements HandlerInterceptor {
 
-    private final TokenCookieManager tokenCookieManager;
-    private final JwtTokenContainer jwtTokenContainer;
+    private final AuthContext authContext;
 
-    public AdminInterceptor(TokenCookieManager tokenCookieManager, JwtTokenContainer jwtTokenContainer) {
-        this.tokenCookieManager = tokenCookieManager;
-        this.jwtTokenContainer = jwtTokenContainer;
+    public AdminInterceptor(AuthContext authContext) {
+        this.authContext = authContext;
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
             throws Exception {
         try {
-            String token = tokenCookieManager.extractTokenFromCookie(request);
-            Role memberRole = jwtTokenContainer.getMemberRole(token);
+            Role memberRole = authContext.claims(request).role();
             if (memberRole.equals(Role.ADMIN)) {
                 return true;
             }
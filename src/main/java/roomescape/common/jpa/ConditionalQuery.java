@@ -0,0 +1,75 @@
+package roomescape.common.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class ConditionalQuery {
+
+    private static final Pattern PARAMETER = Pattern.compile(":(\\w+)");
+
+    private final String[] variants;
+    private final String[] parameterNames;
+
+    private ConditionalQuery(final String[] variants, final String[] parameterNames) {
+        this.variants = variants;
+        this.parameterNames = parameterNames;
+    }
+
+    public static ConditionalQuery of(final String select, final List<String> conditions, final String suffix) {
+        String[] parameterNames = new String[conditions.size()];
+        for (int i = 0; i < conditions.size(); i++) {
+            Matcher matcher = PARAMETER.matcher(conditions.get(i));
+            if (!matcher.find()) {
+                throw new IllegalArgumentException("조건에는 이름 있는 파라미터가 필요합니다.");
+            }
+            parameterNames[i] = matcher.group(1);
+        }
+
+        String[] variants = new String[1 << conditions.size()];
+        for (int filter = 0; filter < variants.length; filter++) {
+            StringBuilder query = new StringBuilder(select).append(" WHERE 1=1");
+            for (int i = 0; i < conditions.size(); i++) {
+                if ((filter & (1 << i)) != 0) {
+                    query.append(" AND ").append(conditions.get(i));
+                }
+            }
+            variants[filter] = query.append(suffix).toString();
+        }
+        return new ConditionalQuery(variants, parameterNames);
+    }
+
+    public String queryFor(final Object... values) {
+        if (values.length != parameterNames.length) {
+            throw new IllegalArgumentException("조건 값의 개수가 맞지 않습니다.");
+        }
+        int filter = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                filter |= 1 << i;
+            }
+        }
+        return variants[filter];
+    }
+
+    public Query createStatement(final EntityManager em, final Object... values) {
+        return bind(em.createQuery(queryFor(values)), values);
+    }
+
+    public <T> TypedQuery<T> createQuery(final EntityManager em, final Class<T> resultType,
+                                        final Object... values) {
+        return bind(em.createQuery(queryFor(values), resultType), values);
+    }
+
+    private <Q extends Query> Q bind(final Q query, final Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                query.setParameter(parameterNames[i], values[i]);
+            }
+        }
+        return query;
+    }
+}
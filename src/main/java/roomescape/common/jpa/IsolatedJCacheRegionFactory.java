@@ -0,0 +1,22 @@
+package roomescape.common.jpa;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+public class IsolatedJCacheRegionFactory extends JCacheRegionFactory {
+
+    private static final String URI_SCHEME = "roomescape";
+
+    @Override
+    protected CacheManager resolveCacheManager(final SessionFactoryOptions settings,
+                                               final Map<String, Object> properties) {
+        CachingProvider cachingProvider = getCachingProvider(properties);
+        URI uri = URI.create(URI_SCHEME + ":" + UUID.randomUUID());
+        return cachingProvider.getCacheManager(uri, getClassLoader(cachingProvider));
+    }
+}
@@ -0,0 +1,76 @@
+package roomescape.common.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import roomescape.member.service.PrincipalCache;
+
+@Component
+public class CacheMetrics implements MeterBinder {
+
+    public static final String GETS_METRIC = "cache.region.gets";
+    public static final String PUTS_METRIC = "cache.region.puts";
+    public static final String SIZE_METRIC = "cache.region.size";
+
+    private static final String PRINCIPAL_REGION = "principal";
+
+    private final Statistics statistics;
+    private final PrincipalCache principalCache;
+
+    public CacheMetrics(final EntityManagerFactory entityManagerFactory, final PrincipalCache principalCache) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.principalCache = principalCache;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            if (statistics.getDomainDataRegionStatistics(region) == null) {
+                continue;
+            }
+            bindRegion(registry, region, statistics,
+                    source -> regionValue(source, region, CacheRegionStatistics::getHitCount),
+                    source -> regionValue(source, region, CacheRegionStatistics::getMissCount),
+                    source -> regionValue(source, region, CacheRegionStatistics::getPutCount),
+                    source -> regionValue(source, region, CacheRegionStatistics::getElementCountInMemory));
+        }
+        bindRegion(registry, PRINCIPAL_REGION, principalCache, PrincipalCache::getHitCount,
+                PrincipalCache::getMissCount, PrincipalCache::getPutCount, PrincipalCache::size);
+    }
+
+    private <T> void bindRegion(final MeterRegistry registry, final String region, final T source,
+                                final ToDoubleFunction<T> hits, final ToDoubleFunction<T> misses,
+                                final ToDoubleFunction<T> puts, final ToDoubleFunction<T> size) {
+        FunctionCounter.builder(GETS_METRIC, source, hits)
+                .tag("region", region)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(GETS_METRIC, source, misses)
+                .tag("region", region)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder(PUTS_METRIC, source, puts)
+                .tag("region", region)
+                .register(registry);
+        Gauge.builder(SIZE_METRIC, source, size)
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private long regionValue(final Statistics source, final String region,
+                             final ToLongFunction<CacheRegionStatistics> value) {
+        CacheRegionStatistics regionStatistics = source.getDomainDataRegionStatistics(region);
+        if (regionStatistics == null) {
+            return 0;
+        }
+        return value.applyAsLong(regionStatistics);
+    }
+}
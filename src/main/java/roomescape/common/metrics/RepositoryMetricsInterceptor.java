@@ -0,0 +1,93 @@
+package roomescape.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    public static final String CALLS_METRIC = "repository.calls";
+    public static final String ROWS_METRIC = "repository.rows";
+
+    private static final double MAX_EXPECTED_ROWS = 10_000;
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Class<?> port;
+    private final Map<Method, Meters> meters = new ConcurrentHashMap<>();
+    private final Map<Method, Timer> errors = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsInterceptor(final Supplier<MeterRegistry> meterRegistry, final Class<?> port) {
+        this.meterRegistry = meterRegistry;
+        this.port = port;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class || !method.getDeclaringClass().isAssignableFrom(port)) {
+            return invocation.proceed();
+        }
+        MeterRegistry registry = meterRegistry.get();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+
+        Meters methodMeters = meters.computeIfAbsent(method, key -> register(registry, key));
+        long started = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            methodMeters.success().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            recordRows(methodMeters.rows(), result);
+            return result;
+        } catch (Throwable e) {
+            errors.computeIfAbsent(method, key -> timer(registry, port.getSimpleName(), key.getName(), "error"))
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private void recordRows(final DistributionSummary rows, final Object result) {
+        if (result instanceof Collection<?> collection) {
+            rows.record(collection.size());
+        } else if (result instanceof Optional<?> optional) {
+            rows.record(optional.isPresent() ? 1 : 0);
+        }
+    }
+
+    private Meters register(final MeterRegistry registry, final Method method) {
+        String repository = port.getSimpleName();
+        String methodName = method.getName();
+        return new Meters(
+                timer(registry, repository, methodName, "success"),
+                DistributionSummary.builder(ROWS_METRIC)
+                        .tag("repository", repository)
+                        .tag("method", methodName)
+                        .baseUnit("rows")
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(1.0)
+                        .maximumExpectedValue(MAX_EXPECTED_ROWS)
+                        .register(registry));
+    }
+
+    private Timer timer(final MeterRegistry registry, final String repository, final String methodName,
+                        final String outcome) {
+        return Timer.builder(CALLS_METRIC)
+                .tag("repository", repository)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private record Meters(Timer success, DistributionSummary rows) {
+    }
+}
@@ -0,0 +1,48 @@
+package roomescape.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.Optional;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private static final String BASE_PACKAGE = "roomescape.";
+    private static final String PORT_PACKAGE_SUFFIX = ".domain";
+    private static final String PORT_NAME_SUFFIX = "Repository";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryMetricsPostProcessor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        Optional<Class<?>> port = findPort(targetClass);
+        if (port.isEmpty()) {
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(bean);
+        proxyFactory.setInterfaces(ClassUtils.getAllInterfacesForClass(targetClass));
+        proxyFactory.addAdvice(new RepositoryMetricsInterceptor(meterRegistry::getIfAvailable, port.get()));
+        return proxyFactory.getProxy(targetClass.getClassLoader());
+    }
+
+    private Optional<Class<?>> findPort(final Class<?> targetClass) {
+        return Arrays.stream(ClassUtils.getAllInterfacesForClass(targetClass))
+                .filter(type -> type.getName().startsWith(BASE_PACKAGE))
+                .filter(type -> type.getPackageName().endsWith(PORT_PACKAGE_SUFFIX))
+                .filter(type -> type.getSimpleName().endsWith(PORT_NAME_SUFFIX))
+                .findFirst();
+    }
+}
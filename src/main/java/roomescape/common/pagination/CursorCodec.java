@@ -0,0 +1,35 @@
+package roomescape.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class CursorCodec {
+
+    private static final String DELIMITER = ",";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(final Object... parts) {
+        String joined = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T> T decode(final String cursor, final int partCount, final Function<String[], T> parser) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = joined.split(DELIMITER, -1);
+            if (parts.length != partCount) {
+                throw new IllegalArgumentException();
+            }
+            return parser.apply(parts);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package roomescape.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static <E, T> CursorPage<T> of(final List<E> rows, final int limit, final Function<E, T> mapper,
+                                          final Function<E, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows.stream().map(mapper).toList(), null);
+        }
+        List<E> page = rows.subList(0, limit);
+        return new CursorPage<>(page.stream().map(mapper).toList(), cursorOf.apply(page.get(limit - 1)));
+    }
+}
@@ -0,0 +1,28 @@
+package roomescape.common.pagination;
+
+public record CursorRequest(String cursor, Integer limit) {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    public CursorRequest {
+        if (limit == null) {
+            limit = DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 개수는 1개 이상 100개 이하입니다.");
+        }
+    }
+
+    public static CursorRequest first() {
+        return new CursorRequest(null, null);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    public int fetchSize() {
+        return limit + 1;
+    }
+}
@@ -0,0 +1,45 @@
+package roomescape.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerMillis;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(final long capacity, final double refillPerMillis, final long nowMillis) {
+        if (capacity < 1 || refillPerMillis <= 0) {
+            throw new IllegalArgumentException("토큰 버킷 설정이 올바르지 않습니다.");
+        }
+        this.capacity = capacity;
+        this.refillPerMillis = refillPerMillis;
+        this.state = new AtomicReference<>(new State(capacity, nowMillis));
+    }
+
+    public boolean tryConsume(final long nowMillis) {
+        while (true) {
+            State current = state.get();
+            double tokens = tokensAt(current, nowMillis);
+            if (tokens < 1) {
+                return false;
+            }
+            State next = new State(tokens - 1, Math.max(current.refilledAt(), nowMillis));
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean isFullAt(final long nowMillis) {
+        return tokensAt(state.get(), nowMillis) >= capacity;
+    }
+
+    private double tokensAt(final State current, final long nowMillis) {
+        long elapsed = Math.max(0, nowMillis - current.refilledAt());
+        return Math.min(capacity, current.tokens() + elapsed * refillPerMillis);
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+}
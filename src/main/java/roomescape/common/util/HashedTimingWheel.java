@@ -0,0 +1,107 @@
+package roomescape.common.util;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final ArrayDeque<Timeout<T>>[] buckets;
+    private final Queue<Timeout<T>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Consumer<T> expiryHandler;
+    private long nextTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(final long tickMillis, final int ticksPerWheel, final long startMillis,
+                             final Consumer<T> expiryHandler) {
+        if (tickMillis < 1 || ticksPerWheel < 1 || Integer.bitCount(ticksPerWheel) != 1) {
+            throw new IllegalArgumentException("tickMillis는 1 이상, ticksPerWheel은 2의 거듭제곱이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = ticksPerWheel - 1;
+        this.buckets = new ArrayDeque[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.expiryHandler = expiryHandler;
+    }
+
+    public Timeout<T> schedule(final T item, final long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(item, deadlineMillis);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    public synchronized void advanceTo(final long nowMillis) {
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        while (nextTick <= targetTick) {
+            transferPendingTimeouts();
+            expireBucket(buckets[(int) (nextTick & mask)]);
+            nextTick++;
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout<T> timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long deadlineTick = Math.max((timeout.deadlineMillis - startMillis) / tickMillis, nextTick);
+            timeout.remainingRounds = (deadlineTick - nextTick) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void expireBucket(final ArrayDeque<Timeout<T>> bucket) {
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+            iterator.remove();
+            if (timeout.done.compareAndSet(false, true)) {
+                expiryHandler.accept(timeout.item);
+            }
+        }
+    }
+
+    public static class Timeout<T> {
+
+        private final T item;
+        private final long deadlineMillis;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private long remainingRounds;
+
+        private Timeout(final T item, final long deadlineMillis) {
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public boolean cancel() {
+            if (!done.compareAndSet(false, true)) {
+                return false;
+            }
+            cancelled.set(true);
+            return true;
+        }
+
+        private boolean isCancelled() {
+            return cancelled.get();
+        }
+    }
+}
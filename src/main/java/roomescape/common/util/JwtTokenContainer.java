@@ -1,28 +1,48 @@
 package roomescape.common.util;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import roomescape.common.auth.AuthClaims;
+import roomescape.common.auth.TokenProvider;
 import roomescape.common.exception.LoginException;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.Role;
 
 @Component
-public class JwtTokenContainer {
+@ConditionalOnProperty(name = "security.auth.mode", havingValue = "jwt", matchIfMissing = true)
+public class JwtTokenContainer implements TokenProvider {
 
     private static final int TOKEN_EXPIRATION_MINUTES = 30;
+    private static final int VERIFIED_CLAIMS_MAX_ENTRIES = 10_000;
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final Map<String, AuthClaims> verifiedClaims = new ConcurrentHashMap<>();
 
     public JwtTokenContainer(@Value("${security.jwt.token.secret-key}") String key) {
         this.secretKey = Keys.hmacShaKeyFor(key.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     public String createJwtToken(Member member, LocalDateTime now) {
@@ -36,12 +56,54 @@ public class JwtTokenContainer {
                 .compact();
     }
 
+    @Override
+    public String issue(Member member, LocalDateTime now) {
+        return createJwtToken(member, now);
+    }
+
+    @Override
+    public AuthClaims verify(String token) {
+        Instant now = Instant.now();
+        String digest = digest(token);
+        AuthClaims cached = verifiedClaims.get(digest);
+        if (cached != null) {
+            if (!cached.isExpiredAt(now)) {
+                return cached;
+            }
+            verifiedClaims.remove(digest, cached);
+            throw new LoginException("만료된 토큰입니다.");
+        }
+
+        AuthClaims claims = parse(token);
+        if (verifiedClaims.size() >= VERIFIED_CLAIMS_MAX_ENTRIES) {
+            evict(now);
+        }
+        verifiedClaims.put(digest, claims);
+        return claims;
+    }
+
+    @Override
+    public void revoke(String token) {
+        verifiedClaims.remove(digest(token));
+    }
+
     public void validateToken(String token) {
+        verify(token);
+    }
+
+    public Long getMemberId(String token) {
+        return verify(token).memberId();
+    }
+
+    public Role getMemberRole(String token) {
+        return verify(token).role();
+    }
+
+    private AuthClaims parse(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            Claims payload = jwtParser.parseSignedClaims(token).getPayload();
+            return new AuthClaims(Long.parseLong(payload.getSubject()),
+                    Role.findRole(payload.get("role").toString()), payload.getExpiration().toInstant());
         } catch (ExpiredJwtException e) {
             throw new LoginException("만료된 토큰입니다.");
         } catch (JwtException e) {
@@ -49,31 +111,21 @@ public class JwtTokenContainer {
         }
     }
 
-    public Long getMemberId(String token) {
-        try {
-            String id = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
-            return Long.parseLong(id);
-        } catch (JwtException e) {
-            throw new LoginException("올바르지 않은 토큰 형태입니다.");
+    private void evict(Instant now) {
+        verifiedClaims.values().removeIf(claims -> claims.isExpiredAt(now));
+        Iterator<String> iterator = verifiedClaims.keySet().iterator();
+        while (verifiedClaims.size() >= VERIFIED_CLAIMS_MAX_ENTRIES && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
         }
     }
 
-    public Role getMemberRole(String token) {
+    private String digest(String token) {
         try {
-            String role = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .get("role").toString();
-            return Role.findRole(role);
-        } catch (JwtException e) {
-            throw new LoginException("올바르지 않은 토큰 형태입니다.");
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
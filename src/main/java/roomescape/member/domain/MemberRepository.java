@@ -12,6 +12,10 @@ public interface MemberRepository {
 
     List<Member> findAll();
 
+    List<MemberView> findPage(Long afterId, int size);
+
     boolean existsByEmail(String email);
 
+    List<String> findAllEmails();
+
 }
@@ -0,0 +1,4 @@
+package roomescape.member.domain;
+
+public record MemberView(Long id, String name) {
+}
@@ -1,9 +1,14 @@
 package roomescape.member.dto.response;
 
 import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberView;
 
 public record MemberResponse(Long id, String name) {
     public static MemberResponse from(Member member) {
         return new MemberResponse(member.getId(), member.getName());
     }
+
+    public static MemberResponse from(MemberView member) {
+        return new MemberResponse(member.id(), member.name());
+    }
 }
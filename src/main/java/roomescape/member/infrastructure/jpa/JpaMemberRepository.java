@@ -1,11 +1,23 @@
 package roomescape.member.infrastructure.jpa;
 
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberView;
 
 public interface JpaMemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
 
     Optional<Member> findByEmailAndPassword(String email, String password);
+
+    @Query("SELECT m.email FROM Member m")
+    List<String> findAllEmails();
+
+    @Query("SELECT new roomescape.member.domain.MemberView(m.id, m.name.name) FROM Member m"
+            + " WHERE m.id > :afterId ORDER BY m.id")
+    List<MemberView> findPage(@Param("afterId") Long afterId, Limit limit);
 }
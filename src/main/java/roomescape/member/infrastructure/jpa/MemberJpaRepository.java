@@ -2,11 +2,14 @@ package roomescape.member.infrastructure.jpa;
 
 import java.util.List;
 import java.util.Optional;
-import org.springframework.stereotype.Repository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.MemberRepository;
+import roomescape.member.domain.MemberView;
 
-@Repository
+@Component
 public class MemberJpaRepository implements MemberRepository {
 
     private final JpaMemberRepository jpaMemberRepository;
@@ -17,7 +20,14 @@ public class MemberJpaRepository implements MemberRepository {
 
     @Override
     public Member save(Member member) {
-        return jpaMemberRepository.save(member);
+        try {
+            return jpaMemberRepository.save(member);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailConstraintViolation(e)) {
+                throw new IllegalArgumentException("이미 가입된 이메일입니다");
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -35,8 +45,23 @@ public class MemberJpaRepository implements MemberRepository {
         return jpaMemberRepository.findAll();
     }
 
+    @Override
+    public List<MemberView> findPage(Long afterId, int size) {
+        return jpaMemberRepository.findPage(afterId, Limit.of(size));
+    }
+
     @Override
     public boolean existsByEmail(String email) {
         return jpaMemberRepository.existsByEmail(email);
     }
+
+    @Override
+    public List<String> findAllEmails() {
+        return jpaMemberRepository.findAllEmails();
+    }
+
+    private boolean isEmailConstraintViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(Member.EMAIL_CONSTRAINT_NAME);
+    }
 }
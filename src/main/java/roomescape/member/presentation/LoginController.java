@@ -1,5 +1,6 @@
 package roomescape.member.presentation;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,6 +12,7 @@ import roomescape.common.util.TokenCookieManager;
 import roomescape.member.dto.request.LoginMember;
 import roomescape.member.dto.request.LoginRequest;
 import roomescape.member.dto.response.LoginCheckResponse;
+import roomescape.member.service.LoginRateLimiter;
 import roomescape.member.service.LoginService;
 
 @RestController
@@ -18,14 +20,19 @@ public class LoginController {
 
     private final TokenCookieManager tokenCookieManager;
     private final LoginService loginService;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public LoginController(TokenCookieManager tokenCookieManager, LoginService loginService) {
+    public LoginController(TokenCookieManager tokenCookieManager, LoginService loginService,
+                           LoginRateLimiter loginRateLimiter) {
         this.tokenCookieManager = tokenCookieManager;
         this.loginService = loginService;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Void> login(@RequestBody LoginRequest request, HttpServletResponse response) {
+    public ResponseEntity<Void> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest,
+                                      HttpServletResponse response) {
+        loginRateLimiter.acquire(request.email(), httpRequest.getRemoteAddr());
         String token = loginService.loginAndReturnToken(request);
         tokenCookieManager.addTokenCookie(response, token);
         return ResponseEntity.ok().build();
@@ -37,7 +44,8 @@ public class LoginController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(HttpServletResponse response) {
+    public ResponseEntity<Void> logout(HttpServletRequest request, HttpServletResponse response) {
+        tokenCookieManager.findToken(request).ifPresent(loginService::logout);
         tokenCookieManager.deleteTokenCookie(response);
         return ResponseEntity.ok().build();
     }
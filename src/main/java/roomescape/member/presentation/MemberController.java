@@ -3,13 +3,15 @@ package roomescape.member.presentation;
 import static roomescape.member.presentation.MemberController.RESERVATION_BASE_URL;
 
 import java.net.URI;
-import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import roomescape.common.pagination.CursorPage;
+import roomescape.common.pagination.CursorRequest;
 import roomescape.member.dto.request.SignupRequest;
 import roomescape.member.dto.response.MemberResponse;
 import roomescape.member.dto.response.SignupResponse;
@@ -36,7 +38,7 @@ public class MemberController {
     }
 
     @GetMapping
-    public ResponseEntity<List<MemberResponse>> findAllMembers() {
-        return ResponseEntity.ok().body(memberService.findAllMember());
+    public ResponseEntity<CursorPage<MemberResponse>> findAllMembers(@ModelAttribute CursorRequest request) {
+        return ResponseEntity.ok().body(memberService.findAllMember(request));
     }
 }
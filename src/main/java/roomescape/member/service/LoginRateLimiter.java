@@ -0,0 +1,148 @@
+package roomescape.member.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import roomescape.common.exception.TooManyRequestsException;
+import roomescape.common.ratelimit.TokenBucket;
+import roomescape.common.util.DateTime;
+
+@Component
+public class LoginRateLimiter implements MeterBinder {
+
+    public static final String ATTEMPTS_METRIC = "login.throttle.attempts";
+    public static final String BUCKETS_METRIC = "login.throttle.buckets";
+    public static final String EVICTED_METRIC = "login.throttle.buckets.evicted";
+    public static final String SHARED_METRIC = "login.throttle.buckets.shared";
+
+    private static final double MILLIS_PER_MINUTE = 60_000.0;
+    private static final int OVERFLOW_BUCKETS = 64;
+    private static final long SWEEP_INTERVAL_MILLIS = 1_000;
+
+    private final DateTime dateTime;
+    private final int maxBuckets;
+    private final BucketTable emailBuckets;
+    private final BucketTable addressBuckets;
+    private final LongAdder allowedCount = new LongAdder();
+    private final LongAdder emailThrottledCount = new LongAdder();
+    private final LongAdder addressThrottledCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+    private final LongAdder sharedCount = new LongAdder();
+
+    public LoginRateLimiter(final DateTime dateTime,
+                            @Value("${login.rate-limit.email.capacity:5}") final int emailCapacity,
+                            @Value("${login.rate-limit.email.refill-per-minute:5}") final int emailRefillPerMinute,
+                            @Value("${login.rate-limit.address.capacity:20}") final int addressCapacity,
+                            @Value("${login.rate-limit.address.refill-per-minute:20}") final int addressRefillPerMinute,
+                            @Value("${login.rate-limit.max-buckets:10000}") final int maxBuckets) {
+        if (emailCapacity < 1 || emailRefillPerMinute < 1 || addressCapacity < 1 || addressRefillPerMinute < 1
+                || maxBuckets < 1) {
+            throw new IllegalArgumentException("로그인 요청 제한 설정이 올바르지 않습니다.");
+        }
+        this.dateTime = dateTime;
+        this.maxBuckets = maxBuckets;
+        this.emailBuckets = new BucketTable(emailCapacity, emailRefillPerMinute / MILLIS_PER_MINUTE);
+        this.addressBuckets = new BucketTable(addressCapacity, addressRefillPerMinute / MILLIS_PER_MINUTE);
+    }
+
+    public void acquire(final String email, final String clientAddress) {
+        long nowMillis = dateTime.now().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        TokenBucket addressBucket = addressBuckets.bucketOf(String.valueOf(clientAddress), nowMillis);
+        if (!addressBucket.tryConsume(nowMillis)) {
+            addressThrottledCount.increment();
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        TokenBucket emailBucket = emailBuckets.bucketOf(normalize(email), nowMillis);
+        if (!emailBucket.tryConsume(nowMillis)) {
+            emailThrottledCount.increment();
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        allowedCount.increment();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        attemptCounter(registry, "allowed", allowedCount);
+        attemptCounter(registry, "email_throttled", emailThrottledCount);
+        attemptCounter(registry, "address_throttled", addressThrottledCount);
+        FunctionCounter.builder(EVICTED_METRIC, evictedCount, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder(SHARED_METRIC, sharedCount, LongAdder::sum)
+                .register(registry);
+        Gauge.builder(BUCKETS_METRIC, emailBuckets, BucketTable::size)
+                .tag("key", "email")
+                .register(registry);
+        Gauge.builder(BUCKETS_METRIC, addressBuckets, BucketTable::size)
+                .tag("key", "address")
+                .register(registry);
+    }
+
+    private void attemptCounter(final MeterRegistry registry, final String outcome, final LongAdder count) {
+        FunctionCounter.builder(ATTEMPTS_METRIC, count, LongAdder::sum)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private String normalize(final String email) {
+        return String.valueOf(email).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private final class BucketTable {
+
+        private final int capacity;
+        private final double refillPerMillis;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final TokenBucket[] overflowBuckets = new TokenBucket[OVERFLOW_BUCKETS];
+        private final AtomicLong nextSweepAt = new AtomicLong();
+
+        private BucketTable(final int capacity, final double refillPerMillis) {
+            this.capacity = capacity;
+            this.refillPerMillis = refillPerMillis;
+            for (int i = 0; i < OVERFLOW_BUCKETS; i++) {
+                overflowBuckets[i] = new TokenBucket(capacity, refillPerMillis, 0);
+            }
+        }
+
+        private TokenBucket bucketOf(final String key, final long nowMillis) {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= maxBuckets) {
+                sweepFull(nowMillis);
+            }
+            if (buckets.size() >= maxBuckets) {
+                sharedCount.increment();
+                return overflowBuckets[Math.floorMod(key.hashCode(), OVERFLOW_BUCKETS)];
+            }
+            return buckets.computeIfAbsent(key, ignored -> new TokenBucket(capacity, refillPerMillis, nowMillis));
+        }
+
+        private void sweepFull(final long nowMillis) {
+            long sweepAt = nextSweepAt.get();
+            if (nowMillis < sweepAt || !nextSweepAt.compareAndSet(sweepAt, nowMillis + SWEEP_INTERVAL_MILLIS)) {
+                return;
+            }
+            buckets.values().removeIf(bucket -> {
+                if (!bucket.isFullAt(nowMillis)) {
+                    return false;
+                }
+                evictedCount.increment();
+                return true;
+            });
+        }
+
+        private int size() {
+            return buckets.size();
+        }
+    }
+}
@@ -2,9 +2,10 @@ package roomescape.member.service;
 
 import java.util.Optional;
 import org.springframework.stereotype.Service;
+import roomescape.common.auth.AuthClaims;
+import roomescape.common.auth.TokenProvider;
 import roomescape.common.exception.LoginException;
 import roomescape.common.util.DateTime;
-import roomescape.common.util.JwtTokenContainer;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.MemberRepository;
 import roomescape.member.dto.request.LoginMember;
@@ -13,34 +14,53 @@ import roomescape.member.dto.request.LoginRequest;
 @Service
 public class LoginService {
 
-    private final JwtTokenContainer jwtTokenContainer;
+    private final TokenProvider tokenProvider;
     private final MemberRepository memberRepository;
     private final DateTime dateTime;
+    private final PrincipalCache principalCache;
+    private final MemberEmailIndex memberEmailIndex;
 
-    public LoginService(final JwtTokenContainer jwtTokenContainer,
+    public LoginService(final TokenProvider tokenProvider,
                         final MemberRepository memberRepository,
-                        final DateTime dateTime) {
-        this.jwtTokenContainer = jwtTokenContainer;
+                        final DateTime dateTime,
+                        final PrincipalCache principalCache,
+                        final MemberEmailIndex memberEmailIndex) {
+        this.tokenProvider = tokenProvider;
         this.memberRepository = memberRepository;
         this.dateTime = dateTime;
+        this.principalCache = principalCache;
+        this.memberEmailIndex = memberEmailIndex;
     }
 
     public String loginAndReturnToken(LoginRequest request) {
+        if (!memberEmailIndex.mightExist(request.email())) {
+            throw new LoginException("아이디 혹은 비밀번호가 일치하지 않습니다.");
+        }
         Optional<Member> loginMember = memberRepository.findByEmailAndPassword(request.email(), request.password());
         if (loginMember.isEmpty()) {
             throw new LoginException("아이디 혹은 비밀번호가 일치하지 않습니다.");
         }
-        return jwtTokenContainer.createJwtToken(loginMember.get(), dateTime.now());
+        Member member = loginMember.get();
+        principalCache.put(new LoginMember(member.getId(), member.getName()));
+        return tokenProvider.issue(member, dateTime.now());
     }
 
     public LoginMember loginCheck(String token) {
-        jwtTokenContainer.validateToken(token);
-        Long memberId = jwtTokenContainer.getMemberId(token);
-        Optional<Member> member = memberRepository.findById(memberId);
-        if (member.isEmpty()) {
-            throw new LoginException("유효하지 않은 회원입니다.");
-        }
-        Member findMember = member.get();
-        return new LoginMember(memberId, findMember.getName());
+        return loginCheck(tokenProvider.verify(token));
+    }
+
+    public void logout(String token) {
+        tokenProvider.revoke(token);
+    }
+
+    public LoginMember loginCheck(AuthClaims claims) {
+        Long memberId = claims.memberId();
+        return principalCache.get(memberId, () -> {
+            Optional<Member> member = memberRepository.findById(memberId);
+            if (member.isEmpty()) {
+                throw new LoginException("유효하지 않은 회원입니다.");
+            }
+            return new LoginMember(memberId, member.get().getName());
+        });
     }
 }
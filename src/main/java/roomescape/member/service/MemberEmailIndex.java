@@ -0,0 +1,121 @@
+package roomescape.member.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import roomescape.common.util.BloomFilter;
+import roomescape.member.domain.MemberRepository;
+
+@Component
+public class MemberEmailIndex implements MeterBinder {
+
+    public static final String LOOKUPS_METRIC = "member.email_filter.lookups";
+    public static final String FALSE_POSITIVES_METRIC = "member.email_filter.false_positives";
+    public static final String BITS_METRIC = "member.email_filter.bits";
+    public static final String HASH_FUNCTIONS_METRIC = "member.email_filter.hash_functions";
+    public static final String INSERTED_METRIC = "member.email_filter.inserted";
+    public static final String FALSE_POSITIVE_RATE_METRIC = "member.email_filter.false_positive_rate";
+
+    private final MemberRepository memberRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicReference<Filter> filter = new AtomicReference<>();
+    private final LongAdder definiteMissCount = new LongAdder();
+    private final LongAdder possibleHitCount = new LongAdder();
+    private final LongAdder falsePositiveCount = new LongAdder();
+
+    public MemberEmailIndex(final MemberRepository memberRepository,
+                            @Value("${member.email-filter.expected-insertions:100000}") final long expectedInsertions,
+                            @Value("${member.email-filter.false-positive-rate:0.01}") final double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter.set(new Filter(new BloomFilter(expectedInsertions, falsePositiveRate), expectedInsertions, false));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            List<String> emails = memberRepository.findAllEmails();
+            long capacity = Math.max(expectedInsertions, emails.size() * 2L);
+            BloomFilter bloomFilter = new BloomFilter(capacity, falsePositiveRate);
+            emails.forEach(bloomFilter::put);
+            filter.set(new Filter(bloomFilter, capacity, true));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean mightExist(final String email) {
+        Filter current = filter.get();
+        if (email == null || !current.ready()) {
+            return true;
+        }
+        if (current.bloomFilter().mightContain(email)) {
+            possibleHitCount.increment();
+            return true;
+        }
+        definiteMissCount.increment();
+        return false;
+    }
+
+    public void recordFalsePositive() {
+        falsePositiveCount.increment();
+    }
+
+    public void add(final String email) {
+        writeLock.lock();
+        try {
+            Filter current = filter.get();
+            current.bloomFilter().put(email);
+            if (current.ready() && current.bloomFilter().getInsertedCount() > current.capacity()) {
+                rebuild();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public long getDefiniteMissCount() {
+        return definiteMissCount.sum();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder(LOOKUPS_METRIC, definiteMissCount, LongAdder::sum)
+                .tag("result", "definite_miss")
+                .register(registry);
+        FunctionCounter.builder(LOOKUPS_METRIC, possibleHitCount, LongAdder::sum)
+                .tag("result", "possible_hit")
+                .register(registry);
+        FunctionCounter.builder(FALSE_POSITIVES_METRIC, falsePositiveCount, LongAdder::sum)
+                .register(registry);
+        Gauge.builder(BITS_METRIC, filter, current -> current.get().bloomFilter().getBitSize())
+                .register(registry);
+        Gauge.builder(HASH_FUNCTIONS_METRIC, filter, current -> current.get().bloomFilter().getHashFunctions())
+                .register(registry);
+        Gauge.builder(INSERTED_METRIC, filter, current -> current.get().bloomFilter().getInsertedCount())
+                .register(registry);
+        Gauge.builder(FALSE_POSITIVE_RATE_METRIC, filter,
+                        current -> current.get().bloomFilter().expectedFalsePositiveRate())
+                .tag("kind", "expected")
+                .register(registry);
+        Gauge.builder(FALSE_POSITIVE_RATE_METRIC, () -> falsePositiveRate)
+                .tag("kind", "configured")
+                .register(registry);
+    }
+
+    private record Filter(BloomFilter bloomFilter, long capacity, boolean ready) {
+    }
+}
@@ -1,7 +1,9 @@
 package roomescape.member.service;
 
-import java.util.List;
 import org.springframework.stereotype.Service;
+import roomescape.common.pagination.CursorCodec;
+import roomescape.common.pagination.CursorPage;
+import roomescape.common.pagination.CursorRequest;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.MemberRepository;
 import roomescape.member.domain.Role;
@@ -13,25 +15,33 @@ import roomescape.member.dto.response.SignupResponse;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberEmailIndex memberEmailIndex;
 
-    public MemberService(MemberRepository memberRepository) {
+    public MemberService(MemberRepository memberRepository, MemberEmailIndex memberEmailIndex) {
         this.memberRepository = memberRepository;
+        this.memberEmailIndex = memberEmailIndex;
     }
 
     public SignupResponse createUser(SignupRequest request) {
-        if (memberRepository.existsByEmail(request.email())) {
-            throw new IllegalArgumentException("이미 가입된 이메일입니다");
+        if (memberEmailIndex.mightExist(request.email())) {
+            if (memberRepository.existsByEmail(request.email())) {
+                throw new IllegalArgumentException("이미 가입된 이메일입니다");
+            }
+            memberEmailIndex.recordFalsePositive();
         }
 
         Member member = Member.createWithoutId(request.name(), request.email(), request.password(), Role.USER);
         Member save = memberRepository.save(member);
+        memberEmailIndex.add(save.getEmail());
         return SignupResponse.from(save);
     }
 
-    public List<MemberResponse> findAllMember() {
-        List<Member> members = memberRepository.findAll();
-        return members.stream()
-                .map(MemberResponse::from)
-                .toList();
+    public CursorPage<MemberResponse> findAllMember(CursorRequest request) {
+        long afterId = 0L;
+        if (request.hasCursor()) {
+            afterId = CursorCodec.decode(request.cursor(), 1, parts -> Long.parseLong(parts[0]));
+        }
+        return CursorPage.of(memberRepository.findPage(afterId, request.fetchSize()), request.limit(),
+                MemberResponse::from, member -> CursorCodec.encode(member.id()));
     }
 }
@@ -0,0 +1,88 @@
+package roomescape.member.service;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import roomescape.common.util.DateTime;
+import roomescape.member.dto.request.LoginMember;
+
+@Component
+public class PrincipalCache {
+
+    private final DateTime dateTime;
+    private final long ttlSeconds;
+    private final int maxEntries;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+
+    public PrincipalCache(final DateTime dateTime,
+                          @Value("${login.principal-cache.ttl-seconds:300}") final long ttlSeconds,
+                          @Value("${login.principal-cache.max-entries:10000}") final int maxEntries) {
+        if (ttlSeconds < 1 || maxEntries < 1) {
+            throw new IllegalArgumentException("인증 정보 캐시 설정이 올바르지 않습니다.");
+        }
+        this.dateTime = dateTime;
+        this.ttlSeconds = ttlSeconds;
+        this.maxEntries = maxEntries;
+    }
+
+    public LoginMember get(final Long memberId, final Supplier<LoginMember> loader) {
+        LocalDateTime now = dateTime.now();
+        Entry entry = entries.get(memberId);
+        if (entry != null && entry.expiresAt().isAfter(now)) {
+            hitCount.increment();
+            return entry.member();
+        }
+        missCount.increment();
+        LoginMember member = loader.get();
+        put(member, now);
+        return member;
+    }
+
+    public void put(final LoginMember member) {
+        put(member, dateTime.now());
+    }
+
+    private void put(final LoginMember member, final LocalDateTime now) {
+        if (entries.size() >= maxEntries && !entries.containsKey(member.id())) {
+            evict(now);
+        }
+        entries.put(member.id(), new Entry(member, now.plusSeconds(ttlSeconds)));
+        putCount.increment();
+    }
+
+    private void evict(final LocalDateTime now) {
+        entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        Iterator<Long> iterator = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getPutCount() {
+        return putCount.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry(LoginMember member, LocalDateTime expiresAt) {
+    }
+}
@@ -1,10 +1,14 @@
 package roomescape.reservation.domain;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -14,21 +18,29 @@ import roomescape.reservationTime.domain.ReservationTime;
 import roomescape.theme.domain.Theme;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = Reservation.SLOT_CONSTRAINT_NAME, columnNames = {"date", "time_id", "theme_id"}),
+        indexes = {
+                @Index(name = "idx_reservation_theme_date_time", columnList = "theme_id, date, time_id"),
+                @Index(name = "idx_reservation_member_date", columnList = "member_id, date")
+        })
 public class Reservation {
 
+    public static final String SLOT_CONSTRAINT_NAME = "uk_reservation_slot";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Member member;
 
     private LocalDate date;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private ReservationTime time;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Theme theme;
 
     protected Reservation() {
@@ -52,8 +64,14 @@ public class Reservation {
         return new Reservation(null, member, reservationDate, time, theme);
     }
 
-    private static void validateReservationDateTime(final LocalDateTime now, final LocalDate reservationDate,
-                                                    final ReservationTime time) {
+    public static Reservation createPromoted(final Member member, final LocalDate date,
+                                             final ReservationTime time, final Theme theme
+    ) {
+        return new Reservation(null, member, date, time, theme);
+    }
+
+    public static void validateReservationDateTime(final LocalDateTime now, final LocalDate reservationDate,
+                                                   final ReservationTime time) {
         LocalDate nowDate = now.toLocalDate();
         if (reservationDate.isBefore(nowDate)) {
             throw new IllegalArgumentException("예약할 수 없는 날짜와 시간입니다.");
@@ -75,6 +93,10 @@ public class Reservation {
         return new Reservation(Objects.requireNonNull(id), member, date, time, theme);
     }
 
+    public Reservation withoutId() {
+        return new Reservation(null, member, date, time, theme);
+    }
+
     public boolean isSameTime(final ReservationTime time) {
         return this.time.isSameTime(time);
     }
@@ -0,0 +1,8 @@
+package roomescape.reservation.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record ReservationExportRow(Long id, String memberName, String themeName, LocalDate date,
+                                   LocalTime startAt) {
+}
@@ -0,0 +1,7 @@
+package roomescape.reservation.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record ReservationKey(LocalDate date, LocalTime startAt, Long id) {
+}
@@ -2,6 +2,8 @@ package roomescape.reservation.domain;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ReservationRepository {
 
@@ -9,18 +11,27 @@ public interface ReservationRepository {
 
     void deleteById(Long id);
 
-    List<Reservation> findByDateAndThemeId(LocalDate date, Long themeId);
+    Optional<Reservation> findById(Long id);
 
     List<Reservation> findAll();
 
-    List<Reservation> findByMemberIdAndThemeIdAndDate(Long memberId, Long themeId, LocalDate dateFrom,
-                                                      LocalDate dateTo);
+    List<ReservationView> findPage(Long memberId, Long themeId, LocalDate dateFrom, LocalDate dateTo,
+                               ReservationKey after, int size);
 
-    boolean existsByTimeId(Long timeId);
+    void exportByCondition(Long memberId, Long themeId, LocalDate dateFrom, LocalDate dateTo,
+                           Consumer<ReservationExportRow> consumer);
 
-    boolean hasSameReservation(Reservation reservation);
+    boolean existsByTimeId(Long timeId);
 
     boolean existsByThemeId(Long themeId);
 
-    List<Reservation> findByMemberId(Long memberId);
+    Optional<Long> findMemberIdBySlot(LocalDate date, Long timeId, Long themeId);
+
+    List<ReservationSlot> findSlotsByIdIn(List<Long> ids);
+
+    List<ReservationSlot> findSlotsByCondition(Long themeId, Long timeId, LocalDate dateFrom, LocalDate dateTo);
+
+    int deleteByIdIn(List<Long> ids);
+
+    int deleteByCondition(Long themeId, Long timeId, LocalDate dateFrom, LocalDate dateTo);
 }
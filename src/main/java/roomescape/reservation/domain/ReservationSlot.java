@@ -0,0 +1,6 @@
+package roomescape.reservation.domain;
+
+import java.time.LocalDate;
+
+public record ReservationSlot(LocalDate date, Long timeId, Long themeId) {
+}
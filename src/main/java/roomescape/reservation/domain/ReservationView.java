@@ -0,0 +1,12 @@
+package roomescape.reservation.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record ReservationView(Long id, String memberName, LocalDate date, Long timeId, LocalTime startAt,
+                              Long themeId, String themeName, String themeDescription, String themeThumbnail) {
+
+    public ReservationKey key() {
+        return new ReservationKey(date, startAt, id);
+    }
+}
@@ -0,0 +1,53 @@
+package roomescape.reservation.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class SlotHold {
+
+    private final Long id;
+    private final Long memberId;
+    private final LocalDate date;
+    private final Long timeId;
+    private final Long themeId;
+    private final LocalDateTime expiresAt;
+
+    public SlotHold(final Long id, final Long memberId, final LocalDate date, final Long timeId, final Long themeId,
+                    final LocalDateTime expiresAt) {
+        this.id = Objects.requireNonNull(id);
+        this.memberId = Objects.requireNonNull(memberId);
+        this.date = Objects.requireNonNull(date);
+        this.timeId = Objects.requireNonNull(timeId);
+        this.themeId = Objects.requireNonNull(themeId);
+        this.expiresAt = Objects.requireNonNull(expiresAt);
+    }
+
+    public boolean isOwnedBy(final Long memberId) {
+        return this.memberId.equals(memberId);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
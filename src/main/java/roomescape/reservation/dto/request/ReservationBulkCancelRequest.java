@@ -0,0 +1,33 @@
+package roomescape.reservation.dto.request;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ReservationBulkCancelRequest(List<Long> ids, Long themeId, Long timeId, LocalDate dateFrom,
+                                           LocalDate dateTo) {
+
+    public ReservationBulkCancelRequest {
+        if (hasIds(ids) && !isConditionEmpty(themeId, timeId, dateFrom, dateTo)) {
+            throw new IllegalArgumentException("예약 번호와 조건은 함께 보낼 수 없습니다.");
+        }
+        if (!hasIds(ids) && isConditionEmpty(themeId, timeId, dateFrom, dateTo)) {
+            throw new IllegalArgumentException("취소할 예약 번호나 조건이 필요합니다.");
+        }
+        if (dateFrom != null && dateTo != null && dateFrom.isAfter(dateTo)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 늦을 수 없습니다.");
+        }
+    }
+
+    public boolean hasIds() {
+        return hasIds(ids);
+    }
+
+    private static boolean hasIds(final List<Long> ids) {
+        return ids != null && !ids.isEmpty();
+    }
+
+    private static boolean isConditionEmpty(final Long themeId, final Long timeId, final LocalDate dateFrom,
+                                            final LocalDate dateTo) {
+        return themeId == null && timeId == null && dateFrom == null && dateTo == null;
+    }
+}
@@ -3,6 +3,8 @@ package roomescape.reservation.dto.response;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationView;
+import roomescape.waiting.domain.WaitingView;
 
 public record MyReservationResponse(
         Long reservationId,
@@ -20,4 +22,24 @@ public record MyReservationResponse(
                 "예약"
         );
     }
+
+    public static MyReservationResponse from(ReservationView reservation) {
+        return new MyReservationResponse(
+                reservation.id(),
+                reservation.themeName(),
+                reservation.date(),
+                reservation.startAt(),
+                "예약"
+        );
+    }
+
+    public static MyReservationResponse from(WaitingView waiting, int rank) {
+        return new MyReservationResponse(
+                waiting.id(),
+                waiting.themeName(),
+                waiting.date(),
+                waiting.startAt(),
+                rank + "번째 예약대기"
+        );
+    }
 }
@@ -0,0 +1,4 @@
+package roomescape.reservation.dto.response;
+
+public record ReservationBulkCancelResponse(int cancelledCount) {
+}
@@ -3,6 +3,7 @@ package roomescape.reservation.dto.response;
 import java.time.LocalDate;
 import roomescape.member.dto.response.ReservationMemberResponse;
 import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationView;
 import roomescape.reservationTime.dto.response.ReservationTimeResponse;
 import roomescape.theme.dto.response.ThemeResponse;
 
@@ -24,4 +25,14 @@ public record ReservationResponse(Long id, ReservationMemberResponse member, Loc
                         reservation.themeThumbnail())
         );
     }
+
+    public static ReservationResponse from(final ReservationView view) {
+        return new ReservationResponse(
+                view.id(),
+                new ReservationMemberResponse(view.memberName()),
+                view.date(),
+                new ReservationTimeResponse(view.timeId(), view.startAt()),
+                new ThemeResponse(view.themeId(), view.themeName(), view.themeDescription(), view.themeThumbnail())
+        );
+    }
 }
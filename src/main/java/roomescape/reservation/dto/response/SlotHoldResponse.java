@@ -0,0 +1,12 @@
+package roomescape.reservation.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import roomescape.reservation.domain.SlotHold;
+
+public record SlotHoldResponse(Long id, LocalDate date, Long timeId, Long themeId, LocalDateTime expiresAt) {
+    public static SlotHoldResponse from(final SlotHold hold) {
+        return new SlotHoldResponse(hold.getId(), hold.getDate(), hold.getTimeId(), hold.getThemeId(),
+                hold.getExpiresAt());
+    }
+}
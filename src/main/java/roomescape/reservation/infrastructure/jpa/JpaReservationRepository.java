@@ -1,25 +1,37 @@
 package roomescape.reservation.infrastructure.jpa;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.List;
-import org.springframework.data.jpa.repository.EntityGraph;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationSlot;
 
 public interface JpaReservationRepository extends JpaRepository<Reservation, Long>, ReservationCustomRepository {
 
-    List<Reservation> findByDateAndThemeId(LocalDate date, Long themeId);
-
     boolean existsByTimeId(Long timeId);
 
-    boolean existsByDateAndTimeStartAtAndThemeId(LocalDate date, LocalTime time, Long themeId);
-
     boolean existsByThemeId(Long themeId);
 
-    @EntityGraph(attributePaths = {"theme", "time"})
-    List<Reservation> findByMemberId(Long id);
-
-    @EntityGraph(attributePaths = {"theme", "member", "time"})
-    List<Reservation> findAll();
+    @Query("""
+            SELECT new roomescape.reservation.domain.ReservationSlot(r.date, r.time.id, r.theme.id)
+            FROM Reservation r
+            WHERE r.id IN :ids
+            """)
+    List<ReservationSlot> findSlotsByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("""
+            SELECT r.member.id
+            FROM Reservation r
+            WHERE r.date = :date AND r.time.id = :timeId AND r.theme.id = :themeId
+            """)
+    Optional<Long> findMemberIdBySlot(@Param("date") LocalDate date, @Param("timeId") Long timeId,
+                                      @Param("themeId") Long themeId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Reservation r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
@@ -2,8 +2,20 @@ package roomescape.reservation.infrastructure.jpa;
 
 import java.time.LocalDate;
 import java.util.List;
-import roomescape.reservation.domain.Reservation;
+import java.util.function.Consumer;
+import roomescape.reservation.domain.ReservationExportRow;
+import roomescape.reservation.domain.ReservationKey;
+import roomescape.reservation.domain.ReservationSlot;
+import roomescape.reservation.domain.ReservationView;
 
 public interface ReservationCustomRepository {
-    List<Reservation> findByMemberIdAndThemeIdAndDate(Long memberId, Long themeId, LocalDate from, LocalDate to);
+    List<ReservationView> findPage(Long memberId, Long themeId, LocalDate from, LocalDate to, ReservationKey after,
+                                   int size);
+
+    void exportByCondition(Long memberId, Long themeId, LocalDate from, LocalDate to,
+                           Consumer<ReservationExportRow> consumer);
+
+    List<ReservationSlot> findSlotsByCondition(Long themeId, Long timeId, LocalDate from, LocalDate to);
+
+    int deleteByCondition(Long themeId, Long timeId, LocalDate from, LocalDate to);
 }
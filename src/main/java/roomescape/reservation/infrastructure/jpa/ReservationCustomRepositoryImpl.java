@@ -2,63 +2,102 @@ package roomescape.reservation.infrastructure.jpa;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
-import roomescape.reservation.domain.Reservation;
+import org.springframework.transaction.annotation.Transactional;
+import roomescape.common.jpa.ConditionalQuery;
+import roomescape.reservation.domain.ReservationExportRow;
+import roomescape.reservation.domain.ReservationKey;
+import roomescape.reservation.domain.ReservationSlot;
+import roomescape.reservation.domain.ReservationView;
 
 @Repository
 public class ReservationCustomRepositoryImpl implements ReservationCustomRepository {
 
-    @PersistenceContext
-    private EntityManager em;
+    private static final List<String> LISTING_CONDITIONS = List.of(
+            "r.member.id = :memberId", "r.theme.id = :themeId", "r.date >= :from", "r.date <= :to");
+    private static final List<String> SLOT_CONDITIONS = List.of(
+            "r.theme.id = :themeId", "r.time.id = :timeId", "r.date >= :from", "r.date <= :to");
 
-    @Override
-    public List<Reservation> findByMemberIdAndThemeIdAndDate(Long memberId, Long themeId, LocalDate from,
-                                                             LocalDate to) {
-        StringBuilder query = createQuery(memberId, themeId, from, to);
+    private static final String EXPORT_SELECT =
+            "SELECT new roomescape.reservation.domain.ReservationExportRow(r.id, m.name.name, th.name, r.date,"
+                    + " t.startAt) FROM Reservation r JOIN r.member m JOIN r.theme th JOIN r.time t";
+    private static final String VIEW_SELECT =
+            "SELECT new roomescape.reservation.domain.ReservationView(r.id, m.name.name, r.date, t.id, t.startAt,"
+                    + " th.id, th.name, th.description, th.thumbnail)"
+                    + " FROM Reservation r JOIN r.member m JOIN r.theme th JOIN r.time t";
+    private static final String SLOT_SELECT =
+            "SELECT new roomescape.reservation.domain.ReservationSlot(r.date, r.time.id, r.theme.id)"
+                    + " FROM Reservation r";
+    private static final String AFTER_KEY = " AND (r.date > :afterDate OR (r.date = :afterDate"
+            + " AND (t.startAt > :afterStartAt OR (t.startAt = :afterStartAt AND r.id > :afterId))))";
+    private static final String PAGE_ORDER = " ORDER BY r.date, t.startAt, r.id";
 
-        TypedQuery<Reservation> typedQuery = createParameter(
-                memberId, themeId, from, to, query);
+    private static final ConditionalQuery FIRST_PAGE_QUERY = ConditionalQuery.of(
+            VIEW_SELECT, LISTING_CONDITIONS, PAGE_ORDER);
+    private static final ConditionalQuery NEXT_PAGE_QUERY = ConditionalQuery.of(
+            VIEW_SELECT, LISTING_CONDITIONS, AFTER_KEY + PAGE_ORDER);
+    private static final ConditionalQuery EXPORT_QUERY = ConditionalQuery.of(
+            EXPORT_SELECT, LISTING_CONDITIONS, " ORDER BY r.id");
+    private static final ConditionalQuery SLOT_QUERY = ConditionalQuery.of(SLOT_SELECT, SLOT_CONDITIONS, "");
+    private static final ConditionalQuery DELETE_QUERY = ConditionalQuery.of(
+            "DELETE FROM Reservation r", SLOT_CONDITIONS, "");
 
-        return typedQuery.getResultList();
-    }
+    private final int exportFetchSize;
 
-    private StringBuilder createQuery(Long memberId, Long themeId, LocalDate from, LocalDate to) {
-        StringBuilder query = new StringBuilder("SELECT r FROM Reservation r WHERE 1=1");
+    @PersistenceContext
+    private EntityManager em;
 
-        if (memberId != null) {
-            query.append(" AND r.member.id = :memberId");
-        }
-        if (themeId != null) {
-            query.append(" AND r.theme.id = :themeId");
-        }
-        if (from != null) {
-            query.append(" AND r.date >= :from");
+    public ReservationCustomRepositoryImpl(@Value("${reservation.export.fetch-size:500}") final int exportFetchSize) {
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    public List<ReservationView> findPage(Long memberId, Long themeId, LocalDate from, LocalDate to,
+                                          ReservationKey after, int size) {
+        ConditionalQuery query = after == null ? FIRST_PAGE_QUERY : NEXT_PAGE_QUERY;
+        TypedQuery<ReservationView> typedQuery = query.createQuery(em, ReservationView.class,
+                memberId, themeId, from, to);
+        if (after != null) {
+            typedQuery.setParameter("afterDate", after.date());
+            typedQuery.setParameter("afterStartAt", after.startAt());
+            typedQuery.setParameter("afterId", after.id());
         }
-        if (to != null) {
-            query.append(" AND r.date <= :to");
+        return typedQuery.setMaxResults(size)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportByCondition(Long memberId, Long themeId, LocalDate from, LocalDate to,
+                                  Consumer<ReservationExportRow> consumer) {
+        TypedQuery<ReservationExportRow> typedQuery = EXPORT_QUERY.createQuery(em, ReservationExportRow.class,
+                        memberId, themeId, from, to)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        try (Stream<ReservationExportRow> rows = typedQuery.getResultStream()) {
+            rows.forEach(consumer);
         }
-        return query;
     }
 
-    private TypedQuery<Reservation> createParameter(Long memberId, Long themeId, LocalDate from, LocalDate to,
-                                                    StringBuilder query) {
-        TypedQuery<Reservation> typedQuery = em.createQuery(query.toString(), Reservation.class);
+    @Override
+    public List<ReservationSlot> findSlotsByCondition(Long themeId, Long timeId, LocalDate from, LocalDate to) {
+        return SLOT_QUERY.createQuery(em, ReservationSlot.class, themeId, timeId, from, to)
+                .getResultList();
+    }
 
-        if (memberId != null) {
-            typedQuery.setParameter("memberId", memberId);
-        }
-        if (themeId != null) {
-            typedQuery.setParameter("themeId", themeId);
-        }
-        if (from != null) {
-            typedQuery.setParameter("from", from);
-        }
-        if (to != null) {
-            typedQuery.setParameter("to", to);
-        }
-        return typedQuery;
+    @Override
+    public int deleteByCondition(Long themeId, Long timeId, LocalDate from, LocalDate to) {
+        Query deleteQuery = DELETE_QUERY.createStatement(em, themeId, timeId, from, to);
+        int deletedCount = deleteQuery.executeUpdate();
+        em.clear();
+        return deletedCount;
     }
 }
@@ -2,11 +2,18 @@ package roomescape.reservation.infrastructure.jpa;
 
 import java.time.LocalDate;
 import java.util.List;
-import org.springframework.stereotype.Repository;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
 import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationExportRow;
+import roomescape.reservation.domain.ReservationKey;
 import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.domain.ReservationSlot;
+import roomescape.reservation.domain.ReservationView;
 
-@Repository
+@Component
 public class ReservationJpaRepository implements ReservationRepository {
 
     private final JpaReservationRepository jpaReservationRepository;
@@ -17,17 +24,25 @@ public class ReservationJpaRepository implements ReservationRepository {
 
     @Override
     public Reservation save(Reservation reservation) {
-        return jpaReservationRepository.save(reservation);
+        try {
+            return jpaReservationRepository.save(reservation);
+        } catch (DataIntegrityViolationException e) {
+            if (isSlotConstraintViolation(e)) {
+                throw new IllegalArgumentException("이미 예약이 존재합니다.");
+            }
+            throw e;
+        }
     }
 
     @Override
     public void deleteById(Long id) {
         jpaReservationRepository.deleteById(id);
+        jpaReservationRepository.flush();
     }
 
     @Override
-    public List<Reservation> findByDateAndThemeId(LocalDate date, Long themeId) {
-        return jpaReservationRepository.findByDateAndThemeId(date, themeId);
+    public Optional<Reservation> findById(Long id) {
+        return jpaReservationRepository.findById(id);
     }
 
     @Override
@@ -36,20 +51,20 @@ public class ReservationJpaRepository implements ReservationRepository {
     }
 
     @Override
-    public List<Reservation> findByMemberIdAndThemeIdAndDate(Long memberId, Long themeId, LocalDate dateFrom,
-                                                             LocalDate dateTo) {
-        return jpaReservationRepository.findByMemberIdAndThemeIdAndDate(memberId, themeId, dateFrom, dateTo);
+    public List<ReservationView> findPage(Long memberId, Long themeId, LocalDate dateFrom, LocalDate dateTo,
+                                          ReservationKey after, int size) {
+        return jpaReservationRepository.findPage(memberId, themeId, dateFrom, dateTo, after, size);
     }
 
     @Override
-    public boolean existsByTimeId(Long timeId) {
-        return jpaReservationRepository.existsByTimeId(timeId);
+    public void exportByCondition(Long memberId, Long themeId, LocalDate dateFrom, LocalDate dateTo,
+                                  Consumer<ReservationExportRow> consumer) {
+        jpaReservationRepository.exportByCondition(memberId, themeId, dateFrom, dateTo, consumer);
     }
 
     @Override
-    public boolean hasSameReservation(Reservation reservation) {
-        return jpaReservationRepository.existsByDateAndTimeStartAtAndThemeId(reservation.getDate(),
-                reservation.reservationTime(), reservation.themeId());
+    public boolean existsByTimeId(Long timeId) {
+        return jpaReservationRepository.existsByTimeId(timeId);
     }
 
     @Override
@@ -58,7 +73,33 @@ public class ReservationJpaRepository implements ReservationRepository {
     }
 
     @Override
-    public List<Reservation> findByMemberId(Long memberId) {
-        return jpaReservationRepository.findByMemberId(memberId);
+    public Optional<Long> findMemberIdBySlot(LocalDate date, Long timeId, Long themeId) {
+        return jpaReservationRepository.findMemberIdBySlot(date, timeId, themeId);
+    }
+
+    @Override
+    public List<ReservationSlot> findSlotsByIdIn(List<Long> ids) {
+        return jpaReservationRepository.findSlotsByIdIn(ids);
+    }
+
+    @Override
+    public List<ReservationSlot> findSlotsByCondition(Long themeId, Long timeId, LocalDate dateFrom,
+                                                      LocalDate dateTo) {
+        return jpaReservationRepository.findSlotsByCondition(themeId, timeId, dateFrom, dateTo);
+    }
+
+    @Override
+    public int deleteByIdIn(List<Long> ids) {
+        return jpaReservationRepository.deleteByIdIn(ids);
+    }
+
+    @Override
+    public int deleteByCondition(Long themeId, Long timeId, LocalDate dateFrom, LocalDate dateTo) {
+        return jpaReservationRepository.deleteByCondition(themeId, timeId, dateFrom, dateTo);
+    }
+
+    private boolean isSlotConstraintViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(Reservation.SLOT_CONSTRAINT_NAME);
     }
 }
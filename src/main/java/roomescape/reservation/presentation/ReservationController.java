@@ -1,11 +1,11 @@
 package roomescape.reservation.presentation;
 
+import static roomescape.common.idempotency.IdempotencyStore.IDEMPOTENCY_KEY_HEADER;
 import static roomescape.reservation.presentation.ReservationController.RESERVATION_BASE_URL;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.time.format.DateTimeParseException;
-import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,10 +14,14 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import roomescape.common.argumentResolver.Login;
 import roomescape.common.exceptionHandler.dto.ExceptionResponse;
+import roomescape.common.idempotency.IdempotencyStore;
+import roomescape.common.pagination.CursorPage;
+import roomescape.common.pagination.CursorRequest;
 import roomescape.member.dto.request.LoginMember;
 import roomescape.reservation.dto.request.ReservationConditionRequest;
 import roomescape.reservation.dto.request.ReservationRequest;
@@ -32,23 +36,33 @@ public class ReservationController {
     public static final String RESERVATION_BASE_URL = "/reservations";
     private static final String SLASH = "/";
 
+    private static final String IDEMPOTENCY_SCOPE = "reservation";
+
     private final ReservationService reservationService;
+    private final IdempotencyStore idempotencyStore;
 
-    public ReservationController(final ReservationService reservationService) {
+    public ReservationController(final ReservationService reservationService,
+                                 final IdempotencyStore idempotencyStore) {
         this.reservationService = reservationService;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @GetMapping
-    public ResponseEntity<List<ReservationResponse>> getReservations(
-            @ModelAttribute ReservationConditionRequest request) {
-        List<ReservationResponse> response = reservationService.getReservations(request);
+    public ResponseEntity<CursorPage<ReservationResponse>> getReservations(
+            @ModelAttribute ReservationConditionRequest request, @ModelAttribute CursorRequest cursorRequest) {
+        CursorPage<ReservationResponse> response = reservationService.getReservations(request, cursorRequest);
         return ResponseEntity.ok(response);
     }
 
     @PostMapping
-    public ResponseEntity<ReservationResponse> createReservation(@RequestBody final ReservationRequest request,
-                                                                 @Login final LoginMember loginMember) {
-        ReservationResponse response = reservationService.createReservation(request, loginMember.id());
+    public ResponseEntity<ReservationResponse> createReservation(
+            @RequestBody final ReservationRequest request,
+            @Login final LoginMember loginMember,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey
+    ) {
+        ReservationResponse response = idempotencyStore.execute(
+                IDEMPOTENCY_SCOPE + ":" + loginMember.id(), idempotencyKey, request,
+                () -> reservationService.createReservation(request, loginMember.id()));
         URI locationUri = URI.create(RESERVATION_BASE_URL + SLASH + response.id());
         return ResponseEntity.created(locationUri).body(response);
     }
@@ -68,8 +82,10 @@ public class ReservationController {
     }
 
     @GetMapping("/mine")
-    public ResponseEntity<List<MyReservationResponse>> getMyReservations(@Login LoginMember loginMember) {
-        List<MyReservationResponse> myReservationResponses = reservationService.getMyReservations(loginMember.id());
+    public ResponseEntity<CursorPage<MyReservationResponse>> getMyReservations(
+            @Login LoginMember loginMember, @ModelAttribute CursorRequest cursorRequest) {
+        CursorPage<MyReservationResponse> myReservationResponses = reservationService.getMyReservations(
+                loginMember.id(), cursorRequest);
         return ResponseEntity.ok().body(myReservationResponses);
     }
 }
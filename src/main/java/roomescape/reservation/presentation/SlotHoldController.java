@@ -0,0 +1,62 @@
+package roomescape.reservation.presentation;
+
+import static roomescape.reservation.presentation.ReservationController.RESERVATION_BASE_URL;
+import static roomescape.reservation.presentation.SlotHoldController.SLOT_HOLD_BASE_URL;
+
+import java.net.URI;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.common.argumentResolver.Login;
+import roomescape.member.dto.request.LoginMember;
+import roomescape.reservation.dto.request.ReservationRequest;
+import roomescape.reservation.dto.response.ReservationResponse;
+import roomescape.reservation.dto.response.SlotHoldResponse;
+import roomescape.reservation.service.SlotHoldService;
+
+@RestController
+@RequestMapping(SLOT_HOLD_BASE_URL)
+public class SlotHoldController {
+
+    public static final String SLOT_HOLD_BASE_URL = "/reservations/holds";
+    private static final String SLASH = "/";
+
+    private final SlotHoldService slotHoldService;
+
+    public SlotHoldController(final SlotHoldService slotHoldService) {
+        this.slotHoldService = slotHoldService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SlotHoldResponse> hold(
+            @RequestBody final ReservationRequest request,
+            @Login final LoginMember loginMember
+    ) {
+        SlotHoldResponse response = slotHoldService.hold(request, loginMember.id());
+        URI locationUri = URI.create(SLOT_HOLD_BASE_URL + SLASH + response.id());
+        return ResponseEntity.created(locationUri).body(response);
+    }
+
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<ReservationResponse> confirm(
+            @PathVariable("id") final Long id,
+            @Login final LoginMember loginMember
+    ) {
+        ReservationResponse response = slotHoldService.confirm(id, loginMember.id());
+        URI locationUri = URI.create(RESERVATION_BASE_URL + SLASH + response.id());
+        return ResponseEntity.created(locationUri).body(response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancel(
+            @PathVariable("id") final Long id,
+            @Login final LoginMember loginMember
+    ) {
+        slotHoldService.cancel(id, loginMember.id());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,174 @@
+package roomescape.reservation.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import roomescape.common.exception.ServiceUnavailableException;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationRepository;
+
+@Component
+@ConditionalOnProperty(name = "reservation.pipeline.enabled", havingValue = "true")
+public class GroupCommitReservationWriter implements ReservationWriter {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final long SHUTDOWN_WAIT_MILLIS = 5_000;
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final long maxWaitNanos;
+    private final long writeTimeoutMillis;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    public GroupCommitReservationWriter(final ReservationRepository reservationRepository,
+                                        final TransactionOperations transactionOperations,
+                                        @Value("${reservation.pipeline.batch-size:32}") final int batchSize,
+                                        @Value("${reservation.pipeline.max-wait-millis:5}") final long maxWaitMillis,
+                                        @Value("${reservation.pipeline.write-timeout-millis:3000}")
+                                        final long writeTimeoutMillis) {
+        if (batchSize < 1 || maxWaitMillis < 0 || writeTimeoutMillis < 1) {
+            throw new IllegalArgumentException(
+                    "batchSize와 writeTimeoutMillis는 1 이상, maxWaitMillis는 0 이상이어야 합니다.");
+        }
+        this.reservationRepository = reservationRepository;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        this.worker = new Thread(this::run, "reservation-group-commit");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public Reservation write(final Reservation reservation) {
+        if (!running) {
+            throw new IllegalStateException("예약 처리 파이프라인이 종료되었습니다.");
+        }
+        PendingWrite pendingWrite = new PendingWrite(reservation,
+                new CompletableFuture<Reservation>().orTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS));
+        queue.add(pendingWrite);
+        if (!running && queue.remove(pendingWrite)) {
+            throw new IllegalStateException("예약 처리 파이프라인이 종료되었습니다.");
+        }
+        try {
+            return pendingWrite.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                queue.remove(pendingWrite);
+                throw new ServiceUnavailableException("예약 처리가 지연되고 있습니다. 예약 내역을 확인한 뒤 다시 시도해주세요.");
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.join(SHUTDOWN_WAIT_MILLIS);
+        PendingWrite pendingWrite;
+        while ((pendingWrite = queue.poll()) != null) {
+            pendingWrite.fail();
+        }
+    }
+
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+                batch.removeIf(pendingWrite -> pendingWrite.result().isDone());
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failAll(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(final List<PendingWrite> batch) throws InterruptedException {
+        PendingWrite first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - batch.size());
+
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void commit(final List<PendingWrite> batch) {
+        try {
+            List<Reservation> saved = transactionOperations.execute(status -> batch.stream()
+                    .map(pendingWrite -> reservationRepository.save(pendingWrite.reservation().withoutId()))
+                    .toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(saved.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.getFirst().result().completeExceptionally(e);
+                return;
+            }
+            commitEach(batch);
+        }
+    }
+
+    private void commitEach(final List<PendingWrite> batch) {
+        for (PendingWrite pendingWrite : batch) {
+            try {
+                Reservation saved = transactionOperations.execute(
+                        status -> reservationRepository.save(pendingWrite.reservation().withoutId()));
+                pendingWrite.result().complete(saved);
+            } catch (RuntimeException e) {
+                pendingWrite.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private void failAll(final List<PendingWrite> batch) {
+        for (PendingWrite pendingWrite : batch) {
+            pendingWrite.fail();
+        }
+    }
+
+    private record PendingWrite(Reservation reservation, CompletableFuture<Reservation> result) {
+
+        private void fail() {
+            result.completeExceptionally(new IllegalStateException("예약 처리 파이프라인이 종료되었습니다."));
+        }
+    }
+}
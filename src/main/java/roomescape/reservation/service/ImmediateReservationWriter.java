@@ -0,0 +1,22 @@
+package roomescape.reservation.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationRepository;
+
+@Component
+@ConditionalOnProperty(name = "reservation.pipeline.enabled", havingValue = "false", matchIfMissing = true)
+public class ImmediateReservationWriter implements ReservationWriter {
+
+    private final ReservationRepository reservationRepository;
+
+    public ImmediateReservationWriter(final ReservationRepository reservationRepository) {
+        this.reservationRepository = reservationRepository;
+    }
+
+    @Override
+    public Reservation write(final Reservation reservation) {
+        return reservationRepository.save(reservation);
+    }
+}
@@ -0,0 +1,32 @@
+package roomescape.reservation.service;
+
+import java.util.Arrays;
+
+public enum ReservationExportFormat {
+
+    CSV("csv", "text/csv;charset=UTF-8"),
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String extension;
+    private final String contentType;
+
+    ReservationExportFormat(final String extension, final String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public static ReservationExportFormat from(final String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 내보내기 형식입니다."));
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
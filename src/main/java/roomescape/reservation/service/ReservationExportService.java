@@ -0,0 +1,71 @@
+package roomescape.reservation.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import org.springframework.stereotype.Service;
+import roomescape.reservation.domain.ReservationExportRow;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.dto.request.ReservationConditionRequest;
+
+@Service
+public class ReservationExportService {
+
+    private static final String CSV_HEADER = "id,member,theme,date,time";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final ReservationRepository reservationRepository;
+    private final ObjectMapper objectMapper;
+
+    public ReservationExportService(final ReservationRepository reservationRepository,
+                                    final ObjectMapper objectMapper) {
+        this.reservationRepository = reservationRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void export(final ReservationConditionRequest request, final ReservationExportFormat format,
+                       final OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ReservationExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write(LINE_SEPARATOR);
+        }
+        try {
+            reservationRepository.exportByCondition(request.memberId(), request.themeId(), request.dateFrom(),
+                    request.dateTo(), row -> writeRow(writer, format, row));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeRow(final Writer writer, final ReservationExportFormat format, final ReservationExportRow row) {
+        try {
+            if (format == ReservationExportFormat.CSV) {
+                writer.write(toCsv(row));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String toCsv(final ReservationExportRow row) {
+        return String.join(",", String.valueOf(row.id()), escapeCsv(row.memberName()), escapeCsv(row.themeName()),
+                row.date().toString(), row.startAt().toString());
+    }
+
+    private String escapeCsv(final String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
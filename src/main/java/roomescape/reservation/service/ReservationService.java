@@ -1,47 +1,120 @@
 package roomescape.reservation.service;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.common.pagination.CursorCodec;
+import roomescape.common.pagination.CursorPage;
+import roomescape.common.pagination.CursorRequest;
 import roomescape.common.util.DateTime;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.MemberRepository;
 import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationKey;
 import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.domain.ReservationSlot;
+import roomescape.reservation.domain.ReservationView;
+import roomescape.reservation.dto.request.ReservationBulkCancelRequest;
 import roomescape.reservation.dto.request.ReservationConditionRequest;
 import roomescape.reservation.dto.request.ReservationRequest;
 import roomescape.reservation.dto.response.MyReservationResponse;
+import roomescape.reservation.dto.response.ReservationBulkCancelResponse;
 import roomescape.reservation.dto.response.ReservationResponse;
 import roomescape.reservationTime.domain.ReservationTime;
-import roomescape.reservationTime.domain.ReservationTimeRepository;
 import roomescape.theme.domain.Theme;
-import roomescape.theme.domain.ThemeRepository;
+import roomescape.theme.domain.ThemeDailyCountRepository;
+import roomescape.theme.service.PopularThemeCache;
+import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.domain.WaitingRepository;
+import roomescape.waiting.domain.WaitingView;
+import roomescape.waiting.service.WaitingLineIndex;
 
 @Service
 public class ReservationService {
 
+    private static final int RESERVED = 0;
+    private static final int WAITING = 1;
+    private static final Comparator<MyReservationRow> MY_RESERVATION_ORDER = Comparator
+            .comparing((MyReservationRow row) -> row.key().date())
+            .thenComparing(row -> row.key().startAt())
+            .thenComparingInt(MyReservationRow::kind)
+            .thenComparing(row -> row.key().id());
+
     private final DateTime dateTime;
     private final ReservationRepository reservationRepository;
-    private final ReservationTimeRepository reservationTimeRepository;
-    private final ThemeRepository themeRepository;
+    private final ReferenceCatalog referenceCatalog;
     private final MemberRepository memberRepository;
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+    private final ReservationWriter reservationWriter;
+    private final WaitingRepository waitingRepository;
+    private final WaitingLineIndex waitingLineIndex;
+    private final TransactionOperations transactionOperations;
+    private final ThemeDailyCountRepository themeDailyCountRepository;
+    private final PopularThemeCache popularThemeCache;
 
     public ReservationService(
-            final DateTime dateTime, final ReservationRepository reservationRepository,
-            final ReservationTimeRepository reservationTimeRepository, final ThemeRepository themeRepository,
-            final MemberRepository memberRepository
+            final DateTime dateTime,
+            final ReservationRepository reservationRepository,
+            final ReferenceCatalog referenceCatalog,
+            final MemberRepository memberRepository,
+            final SlotAvailabilityIndex slotAvailabilityIndex,
+            final ReservationWriter reservationWriter,
+            final WaitingRepository waitingRepository,
+            final WaitingLineIndex waitingLineIndex,
+            final TransactionOperations transactionOperations,
+            final ThemeDailyCountRepository themeDailyCountRepository,
+            final PopularThemeCache popularThemeCache
     ) {
         this.dateTime = dateTime;
         this.reservationRepository = reservationRepository;
-        this.reservationTimeRepository = reservationTimeRepository;
-        this.themeRepository = themeRepository;
+        this.referenceCatalog = referenceCatalog;
         this.memberRepository = memberRepository;
+        this.slotAvailabilityIndex = slotAvailabilityIndex;
+        this.reservationWriter = reservationWriter;
+        this.waitingRepository = waitingRepository;
+        this.waitingLineIndex = waitingLineIndex;
+        this.transactionOperations = transactionOperations;
+        this.themeDailyCountRepository = themeDailyCountRepository;
+        this.popularThemeCache = popularThemeCache;
     }
 
     public ReservationResponse createReservation(final ReservationRequest request, final Long memberId) {
-        ReservationTime time = reservationTimeRepository.findById(request.timeId())
+        Reservation reservation = prepareReservation(request, memberId);
+
+        if (!slotAvailabilityIndex.claim(reservation.themeId(), reservation.getDate(), reservation.timeId())) {
+            throw new IllegalArgumentException("이미 예약이 존재합니다.");
+        }
+
+        Reservation save;
+        try {
+            save = reservationWriter.write(reservation);
+        } catch (RuntimeException e) {
+            slotAvailabilityIndex.release(reservation.themeId(), reservation.getDate(), reservation.timeId());
+            throw e;
+        }
+        themeDailyCountRepository.increase(save.themeId(), save.getDate(), 1);
+        return ReservationResponse.from(save);
+    }
+
+    public ReservationResponse createReservationOnClaimedSlot(final ReservationRequest request, final Long memberId) {
+        Reservation reservation = prepareReservation(request, memberId);
+        Reservation save = reservationWriter.write(reservation);
+        themeDailyCountRepository.increase(save.themeId(), save.getDate(), 1);
+        return ReservationResponse.from(save);
+    }
+
+    private Reservation prepareReservation(final ReservationRequest request, final Long memberId) {
+        ReservationTime time = referenceCatalog.findTime(request.timeId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 시간입니다."));
-        Theme theme = themeRepository.findById(request.themeId())
+        Theme theme = referenceCatalog.findTheme(request.themeId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 테마입니다."));
 
         Optional<Member> findMember = memberRepository.findById(memberId);
@@ -49,39 +122,128 @@ public class ReservationService {
             throw new IllegalArgumentException("존재 하지 않는 유저입니다.");
         }
 
-        Reservation reservation = Reservation.createWithoutId(dateTime.now(), findMember.get(), request.date(), time,
-                theme);
+        return Reservation.createWithoutId(dateTime.now(), findMember.get(), request.date(), time, theme);
+    }
 
-        if (reservationRepository.hasSameReservation(reservation)) {
-            throw new IllegalArgumentException("이미 예약이 존재합니다.");
+    public CursorPage<ReservationResponse> getReservations(final ReservationConditionRequest request,
+                                                           final CursorRequest cursorRequest) {
+        ReservationKey after = null;
+        if (cursorRequest.hasCursor()) {
+            after = CursorCodec.decode(cursorRequest.cursor(), 3, parts -> new ReservationKey(
+                    LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.parseLong(parts[2])));
         }
+        List<ReservationView> reservations = reservationRepository.findPage(request.memberId(), request.themeId(),
+                request.dateFrom(), request.dateTo(), after, cursorRequest.fetchSize());
+        return CursorPage.of(reservations, cursorRequest.limit(), ReservationResponse::from,
+                reservation -> CursorCodec.encode(reservation.date(), reservation.startAt(), reservation.id()));
+    }
 
-        Reservation save = reservationRepository.save(reservation);
+    public void deleteReservationById(final Long id) {
+        Optional<Reservation> findReservation = reservationRepository.findById(id);
+        if (findReservation.isEmpty()) {
+            return;
+        }
 
-        return ReservationResponse.from(save);
+        Reservation reservation = findReservation.get();
+        waitingLineIndex.withLine(reservation.themeId(), reservation.getDate(), reservation.timeId(), () -> {
+            Optional<Waiting> promoted = transactionOperations.execute(status -> {
+                reservationRepository.deleteById(id);
+                return promoteFirstWaiting(reservation);
+            });
+            if (promoted.isPresent()) {
+                waitingLineIndex.remove(reservation.themeId(), reservation.getDate(), reservation.timeId(),
+                        promoted.get().getId());
+                return null;
+            }
+            slotAvailabilityIndex.release(reservation.themeId(), reservation.getDate(), reservation.timeId());
+            themeDailyCountRepository.increase(reservation.themeId(), reservation.getDate(), -1);
+            popularThemeCache.invalidate(reservation.getDate());
+            return null;
+        });
     }
 
-    public List<ReservationResponse> getReservations(ReservationConditionRequest request) {
-        if (request.isEmpty()) {
-            return reservationRepository.findAll().stream()
-                    .map(ReservationResponse::from)
-                    .toList();
+    public ReservationBulkCancelResponse cancelReservations(final ReservationBulkCancelRequest request) {
+        List<ReservationSlot> cancelledSlots = new ArrayList<>();
+        Integer cancelledCount = transactionOperations.execute(status -> {
+            if (request.hasIds()) {
+                cancelledSlots.addAll(reservationRepository.findSlotsByIdIn(request.ids()));
+                waitingRepository.deleteByReservationIdIn(request.ids());
+                return reservationRepository.deleteByIdIn(request.ids());
+            }
+            cancelledSlots.addAll(reservationRepository.findSlotsByCondition(request.themeId(), request.timeId(),
+                    request.dateFrom(), request.dateTo()));
+            waitingRepository.deleteByCondition(request.themeId(), request.timeId(), request.dateFrom(),
+                    request.dateTo());
+            return reservationRepository.deleteByCondition(request.themeId(), request.timeId(),
+                    request.dateFrom(), request.dateTo());
+        });
+
+        Map<ThemeDate, Integer> cancelledCounts = new HashMap<>();
+        for (ReservationSlot slot : cancelledSlots) {
+            waitingLineIndex.clear(slot.themeId(), slot.date(), slot.timeId());
+            slotAvailabilityIndex.release(slot.themeId(), slot.date(), slot.timeId());
+            cancelledCounts.merge(new ThemeDate(slot.themeId(), slot.date()), 1, Integer::sum);
         }
-        return reservationRepository.findByMemberIdAndThemeIdAndDate(request.memberId(), request.themeId(),
-                        request.dateFrom(), request.dateTo())
-                .stream()
-                .map(ReservationResponse::from)
-                .toList();
+        cancelledCounts.forEach((themeDate, count) -> {
+            themeDailyCountRepository.increase(themeDate.themeId(), themeDate.date(), -count);
+            popularThemeCache.invalidate(themeDate.date());
+        });
+        return new ReservationBulkCancelResponse(cancelledCount);
     }
 
-    public void deleteReservationById(final Long id) {
-        reservationRepository.deleteById(id);
+    private Optional<Waiting> promoteFirstWaiting(final Reservation reservation) {
+        Optional<Long> first = waitingLineIndex.first(reservation.themeId(), reservation.getDate(),
+                reservation.timeId());
+        while (first.isPresent()) {
+            Optional<Waiting> waiting = waitingRepository.findById(first.get());
+            if (waiting.isPresent()) {
+                waitingRepository.deleteById(waiting.get().getId());
+                reservationRepository.save(waiting.get().promote());
+                return waiting;
+            }
+            waitingLineIndex.remove(reservation.themeId(), reservation.getDate(), reservation.timeId(), first.get());
+            first = waitingLineIndex.first(reservation.themeId(), reservation.getDate(), reservation.timeId());
+        }
+        return Optional.empty();
     }
 
-    public List<MyReservationResponse> getMyReservations(final Long id) {
-        List<Reservation> reservations = reservationRepository.findByMemberId(id);
-        return reservations.stream()
-                .map(MyReservationResponse::from)
-                .toList();
+    public CursorPage<MyReservationResponse> getMyReservations(final Long id, final CursorRequest cursorRequest) {
+        ReservationKey reservationAfter = null;
+        ReservationKey waitingAfter = null;
+        if (cursorRequest.hasCursor()) {
+            MyReservationRow last = CursorCodec.decode(cursorRequest.cursor(), 4, parts -> new MyReservationRow(
+                    new ReservationKey(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]),
+                            Long.parseLong(parts[3])), Integer.parseInt(parts[2]), null));
+            reservationAfter = last.afterFor(RESERVED);
+            waitingAfter = last.afterFor(WAITING);
+        }
+
+        List<MyReservationRow> rows = new ArrayList<>();
+        for (ReservationView reservation : reservationRepository.findPage(id, null, null, null, reservationAfter,
+                cursorRequest.fetchSize())) {
+            rows.add(new MyReservationRow(reservation.key(), RESERVED, MyReservationResponse.from(reservation)));
+        }
+        for (WaitingView waiting : waitingRepository.findPageByMemberId(id, waitingAfter,
+                cursorRequest.fetchSize())) {
+            int rank = waitingLineIndex.rankOf(waiting.themeId(), waiting.date(), waiting.timeId(), waiting.id());
+            rows.add(new MyReservationRow(waiting.key(), WAITING, MyReservationResponse.from(waiting, rank)));
+        }
+        rows.sort(MY_RESERVATION_ORDER);
+        return CursorPage.of(rows, cursorRequest.limit(), MyReservationRow::response,
+                row -> CursorCodec.encode(row.key().date(), row.key().startAt(), row.kind(), row.key().id()));
+    }
+
+    private record ThemeDate(Long themeId, LocalDate date) {
+    }
+
+    private record MyReservationRow(ReservationKey key, int kind, MyReservationResponse response) {
+
+        private ReservationKey afterFor(final int sourceKind) {
+            if (kind == sourceKind) {
+                return key;
+            }
+            long boundaryId = sourceKind < kind ? Long.MAX_VALUE : 0L;
+            return new ReservationKey(key.date(), key.startAt(), boundaryId);
+        }
     }
 }
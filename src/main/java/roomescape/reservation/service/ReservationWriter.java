@@ -0,0 +1,8 @@
+package roomescape.reservation.service;
+
+import roomescape.reservation.domain.Reservation;
+
+public interface ReservationWriter {
+
+    Reservation write(Reservation reservation);
+}
@@ -0,0 +1,101 @@
+package roomescape.reservation.service;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import roomescape.common.util.DateTime;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.domain.ReservationSlot;
+
+@Component
+public class SlotAvailabilityIndex {
+
+    private final ReservationRepository reservationRepository;
+    private final DateTime dateTime;
+    private final Map<Long, Integer> timeOrdinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+    private final Map<DailySlot, BitSet> claimedSlots = new ConcurrentHashMap<>();
+
+    public SlotAvailabilityIndex(final ReservationRepository reservationRepository, final DateTime dateTime) {
+        this.reservationRepository = reservationRepository;
+        this.dateTime = dateTime;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        claimedSlots.clear();
+        for (ReservationSlot slot : reservationRepository.findSlotsByCondition(null, null, dateTime.nowDate(), null)) {
+            claim(slot.themeId(), slot.date(), slot.timeId());
+        }
+    }
+
+    @Scheduled(cron = "${reservation.availability.prune-cron:0 5 0 * * *}")
+    public void prunePastDates() {
+        LocalDate today = dateTime.nowDate();
+        claimedSlots.keySet().removeIf(slot -> slot.date().isBefore(today));
+    }
+
+    public boolean claim(final Long themeId, final LocalDate date, final Long timeId) {
+        int ordinal = ordinalOf(timeId);
+        BitSet slots = claimedSlots.computeIfAbsent(new DailySlot(themeId, date), key -> new BitSet());
+        synchronized (slots) {
+            if (slots.get(ordinal)) {
+                return false;
+            }
+            slots.set(ordinal);
+            return true;
+        }
+    }
+
+    public void release(final Long themeId, final LocalDate date, final Long timeId) {
+        BitSet slots = claimedSlots.get(new DailySlot(themeId, date));
+        if (slots == null) {
+            return;
+        }
+        int ordinal = ordinalOf(timeId);
+        synchronized (slots) {
+            slots.clear(ordinal);
+        }
+    }
+
+    public boolean isClaimed(final Long themeId, final LocalDate date, final Long timeId) {
+        BitSet slots = claimedSlots.get(new DailySlot(themeId, date));
+        if (slots == null) {
+            return false;
+        }
+        int ordinal = ordinalOf(timeId);
+        synchronized (slots) {
+            return slots.get(ordinal);
+        }
+    }
+
+    public BitSet claimedAmong(final Long themeId, final LocalDate date, final List<Long> timeIds) {
+        BitSet claimed = new BitSet(timeIds.size());
+        BitSet slots = claimedSlots.get(new DailySlot(themeId, date));
+        if (slots == null) {
+            return claimed;
+        }
+        synchronized (slots) {
+            for (int i = 0; i < timeIds.size(); i++) {
+                if (slots.get(ordinalOf(timeIds.get(i)))) {
+                    claimed.set(i);
+                }
+            }
+        }
+        return claimed;
+    }
+
+    private int ordinalOf(final Long timeId) {
+        return timeOrdinals.computeIfAbsent(timeId, id -> nextOrdinal.getAndIncrement());
+    }
+
+    private record DailySlot(Long themeId, LocalDate date) {
+    }
+}
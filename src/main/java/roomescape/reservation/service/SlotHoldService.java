@@ -0,0 +1,174 @@
+package roomescape.reservation.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.common.util.DateTime;
+import roomescape.common.util.HashedTimingWheel;
+import roomescape.common.util.HashedTimingWheel.Timeout;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.SlotHold;
+import roomescape.reservation.dto.request.ReservationRequest;
+import roomescape.reservation.dto.response.ReservationResponse;
+import roomescape.reservation.dto.response.SlotHoldResponse;
+import roomescape.reservationTime.domain.ReservationTime;
+
+@Service
+public class SlotHoldService {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotHoldService.class);
+    private static final long TICK_MILLIS = 1000;
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private final ReservationService reservationService;
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+    private final ReferenceCatalog referenceCatalog;
+    private final DateTime dateTime;
+    private final long holdMinutes;
+    private final Map<Long, ActiveHold> activeHolds = new ConcurrentHashMap<>();
+    private final Map<HeldSlot, Long> heldSlots = new ConcurrentHashMap<>();
+    private final AtomicLong holdSequence = new AtomicLong();
+    private final HashedTimingWheel<SlotHold> timingWheel;
+    private final ScheduledExecutorService ticker;
+
+    public SlotHoldService(final ReservationService reservationService,
+                           final SlotAvailabilityIndex slotAvailabilityIndex,
+                           final ReferenceCatalog referenceCatalog,
+                           final DateTime dateTime,
+                           @Value("${reservation.hold.minutes:5}") final long holdMinutes) {
+        if (holdMinutes < 1) {
+            throw new IllegalArgumentException("선점 시간은 1분 이상이어야 합니다.");
+        }
+        this.reservationService = reservationService;
+        this.slotAvailabilityIndex = slotAvailabilityIndex;
+        this.referenceCatalog = referenceCatalog;
+        this.dateTime = dateTime;
+        this.holdMinutes = holdMinutes;
+        this.timingWheel = new HashedTimingWheel<>(TICK_MILLIS, TICKS_PER_WHEEL, toEpochMillis(dateTime.now()),
+                this::expire);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slot-hold-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTicker() {
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public SlotHoldResponse hold(final ReservationRequest request, final Long memberId) {
+        ReservationTime time = referenceCatalog.findTime(request.timeId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 시간입니다."));
+        referenceCatalog.findTheme(request.themeId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 테마입니다."));
+        LocalDateTime now = dateTime.now();
+        Reservation.validateReservationDateTime(now, request.date(), time);
+
+        if (!slotAvailabilityIndex.claim(request.themeId(), request.date(), request.timeId())) {
+            throw new IllegalArgumentException("이미 예약이 존재합니다.");
+        }
+
+        SlotHold hold = new SlotHold(holdSequence.incrementAndGet(), memberId, request.date(), request.timeId(),
+                request.themeId(), now.plusMinutes(holdMinutes));
+        Timeout<SlotHold> timeout = timingWheel.schedule(hold, toEpochMillis(hold.getExpiresAt()));
+        activeHolds.put(hold.getId(), new ActiveHold(hold, timeout));
+        heldSlots.put(HeldSlot.from(hold), hold.getId());
+        return SlotHoldResponse.from(hold);
+    }
+
+    public ReservationResponse confirm(final Long holdId, final Long memberId) {
+        SlotHold hold = take(holdId, memberId);
+        ReservationRequest request = new ReservationRequest(hold.getDate(), hold.getTimeId(), hold.getThemeId());
+        try {
+            return reservationService.createReservationOnClaimedSlot(request, memberId);
+        } catch (RuntimeException e) {
+            release(hold);
+            throw e;
+        }
+    }
+
+    public void cancel(final Long holdId, final Long memberId) {
+        release(take(holdId, memberId));
+    }
+
+    public void expireHolds() {
+        timingWheel.advanceTo(toEpochMillis(dateTime.now()));
+    }
+
+    public boolean isHeld(final Long themeId, final LocalDate date, final Long timeId) {
+        return heldSlots.containsKey(new HeldSlot(themeId, date, timeId));
+    }
+
+    public int countActiveHolds() {
+        return activeHolds.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    private void tick() {
+        try {
+            expireHolds();
+        } catch (RuntimeException e) {
+            log.error("선점 만료 처리에 실패했습니다.", e);
+        }
+    }
+
+    private SlotHold take(final Long holdId, final Long memberId) {
+        ActiveHold activeHold = activeHolds.get(holdId);
+        if (activeHold == null) {
+            throw new IllegalArgumentException("만료되었거나 존재하지 않는 선점입니다.");
+        }
+        if (!activeHold.hold().isOwnedBy(memberId)) {
+            throw new IllegalArgumentException("본인의 선점만 확정할 수 있습니다.");
+        }
+        if (!activeHold.timeout().cancel()) {
+            throw new IllegalArgumentException("만료되었거나 존재하지 않는 선점입니다.");
+        }
+        activeHolds.remove(holdId);
+        heldSlots.remove(HeldSlot.from(activeHold.hold()), holdId);
+        return activeHold.hold();
+    }
+
+    private void expire(final SlotHold hold) {
+        activeHolds.remove(hold.getId());
+        heldSlots.remove(HeldSlot.from(hold), hold.getId());
+        release(hold);
+    }
+
+    private void release(final SlotHold hold) {
+        slotAvailabilityIndex.release(hold.getThemeId(), hold.getDate(), hold.getTimeId());
+    }
+
+    private long toEpochMillis(final LocalDateTime localDateTime) {
+        return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record ActiveHold(SlotHold hold, Timeout<SlotHold> timeout) {
+    }
+
+    private record HeldSlot(Long themeId, LocalDate date, Long timeId) {
+
+        static HeldSlot from(final SlotHold hold) {
+            return new HeldSlot(hold.getThemeId(), hold.getDate(), hold.getTimeId());
+        }
+    }
+}
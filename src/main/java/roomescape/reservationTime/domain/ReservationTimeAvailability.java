@@ -0,0 +1,6 @@
+package roomescape.reservationTime.domain;
+
+import java.time.LocalTime;
+
+public record ReservationTimeAvailability(Long timeId, LocalTime startAt, boolean booked) {
+}
@@ -1,5 +1,6 @@
 package roomescape.reservationTime.domain;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +13,6 @@ public interface ReservationTimeRepository {
     Optional<ReservationTime> findById(Long id);
 
     List<ReservationTime> findAll();
+
+    List<ReservationTimeAvailability> findAvailabilities(LocalDate date, Long themeId);
 }
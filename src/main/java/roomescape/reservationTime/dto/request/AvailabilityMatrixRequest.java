@@ -0,0 +1,30 @@
+package roomescape.reservationTime.dto.request;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+public record AvailabilityMatrixRequest(LocalDate dateFrom, LocalDate dateTo, List<Long> themeIds) {
+
+    private static final int MAX_DAYS = 93;
+    private static final int MAX_THEMES = 50;
+
+    public AvailabilityMatrixRequest {
+        if (dateFrom == null || dateTo == null) {
+            throw new IllegalArgumentException("조회 시작 날짜와 종료 날짜는 null 일 수 없습니다.");
+        }
+        if (dateFrom.isAfter(dateTo)) {
+            throw new IllegalArgumentException("시작 날짜는 종료 날짜보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(dateFrom, dateTo) >= MAX_DAYS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 기간은 93일까지입니다.");
+        }
+        if (themeIds != null && themeIds.size() > MAX_THEMES) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 테마는 50개까지입니다.");
+        }
+    }
+
+    public boolean hasThemeIds() {
+        return themeIds != null && !themeIds.isEmpty();
+    }
+}
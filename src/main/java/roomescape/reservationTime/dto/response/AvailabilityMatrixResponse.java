@@ -0,0 +1,13 @@
+package roomescape.reservationTime.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record AvailabilityMatrixResponse(
+        LocalDate dateFrom,
+        LocalDate dateTo,
+        List<ReservationTimeResponse> times,
+        Map<Long, List<String>> themes
+) {
+}
@@ -1,7 +1,21 @@
 package roomescape.reservationTime.infrastructure.jpa;
 
+import java.time.LocalDate;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.domain.ReservationTimeAvailability;
 
 public interface JpaReservationTimeRepository extends JpaRepository<ReservationTime, Long> {
+
+    @Query("""
+            SELECT new roomescape.reservationTime.domain.ReservationTimeAvailability(
+                t.id, t.startAt, CASE WHEN r.id IS NULL THEN false ELSE true END)
+            FROM ReservationTime t
+            LEFT JOIN Reservation r ON r.time.id = t.id AND r.date = :date AND r.theme.id = :themeId
+            ORDER BY t.id
+            """)
+    List<ReservationTimeAvailability> findAvailabilities(@Param("date") LocalDate date, @Param("themeId") Long themeId);
 }
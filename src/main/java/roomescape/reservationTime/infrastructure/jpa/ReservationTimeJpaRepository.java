@@ -1,9 +1,11 @@
 package roomescape.reservationTime.infrastructure.jpa;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
 import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.domain.ReservationTimeAvailability;
 import roomescape.reservationTime.domain.ReservationTimeRepository;
 
 @Repository
@@ -35,4 +37,9 @@ public class ReservationTimeJpaRepository implements ReservationTimeRepository {
     public List<ReservationTime> findAll() {
         return jpaReservationTimeRepository.findAll();
     }
+
+    @Override
+    public List<ReservationTimeAvailability> findAvailabilities(LocalDate date, Long themeId) {
+        return jpaReservationTimeRepository.findAvailabilities(date, themeId);
+    }
 }
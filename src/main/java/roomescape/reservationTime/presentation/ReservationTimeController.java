@@ -14,10 +14,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import roomescape.common.exceptionHandler.dto.ExceptionResponse;
+import roomescape.reservationTime.dto.request.AvailabilityMatrixRequest;
 import roomescape.reservationTime.dto.request.ReservationTimeRequest;
 import roomescape.reservationTime.dto.request.TimeConditionRequest;
+import roomescape.reservationTime.dto.response.AvailabilityMatrixResponse;
 import roomescape.reservationTime.dto.response.ReservationTimeResponse;
 import roomescape.reservationTime.dto.response.TimeConditionResponse;
+import roomescape.reservationTime.service.AvailabilityMatrixService;
 import roomescape.reservationTime.service.ReservationTimeService;
 
 @RestController
@@ -28,9 +31,12 @@ public class ReservationTimeController {
     private static final String SLASH = "/";
 
     private final ReservationTimeService reservationTimeService;
+    private final AvailabilityMatrixService availabilityMatrixService;
 
-    public ReservationTimeController(final ReservationTimeService reservationTimeService) {
+    public ReservationTimeController(final ReservationTimeService reservationTimeService,
+                                     final AvailabilityMatrixService availabilityMatrixService) {
         this.reservationTimeService = reservationTimeService;
+        this.availabilityMatrixService = availabilityMatrixService;
     }
 
     @PostMapping
@@ -53,6 +59,12 @@ public class ReservationTimeController {
         return ResponseEntity.ok().body(responses);
     }
 
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityMatrixResponse> getAvailabilityMatrix(final AvailabilityMatrixRequest request) {
+        AvailabilityMatrixResponse response = availabilityMatrixService.getAvailabilityMatrix(request);
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteReservationTimeById(@PathVariable("id") final Long id) {
         reservationTimeService.deleteReservationTimeById(id);
@@ -0,0 +1,74 @@
+package roomescape.reservationTime.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.reservation.service.SlotAvailabilityIndex;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.dto.request.AvailabilityMatrixRequest;
+import roomescape.reservationTime.dto.response.AvailabilityMatrixResponse;
+import roomescape.reservationTime.dto.response.ReservationTimeResponse;
+import roomescape.theme.domain.Theme;
+
+@Service
+public class AvailabilityMatrixService {
+
+    private final ReferenceCatalog referenceCatalog;
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+
+    public AvailabilityMatrixService(final ReferenceCatalog referenceCatalog,
+                                     final SlotAvailabilityIndex slotAvailabilityIndex) {
+        this.referenceCatalog = referenceCatalog;
+        this.slotAvailabilityIndex = slotAvailabilityIndex;
+    }
+
+    public AvailabilityMatrixResponse getAvailabilityMatrix(final AvailabilityMatrixRequest request) {
+        List<ReservationTime> times = referenceCatalog.getTimes();
+        List<Long> timeIds = times.stream()
+                .map(ReservationTime::getId)
+                .toList();
+
+        Map<Long, List<String>> themes = new LinkedHashMap<>();
+        for (Long themeId : findThemeIds(request)) {
+            List<String> dailyMasks = new ArrayList<>();
+            for (LocalDate date = request.dateFrom(); !date.isAfter(request.dateTo()); date = date.plusDays(1)) {
+                dailyMasks.add(toHex(slotAvailabilityIndex.claimedAmong(themeId, date, timeIds)));
+            }
+            themes.put(themeId, dailyMasks);
+        }
+
+        List<ReservationTimeResponse> timeResponses = times.stream()
+                .map(ReservationTimeResponse::from)
+                .toList();
+        return new AvailabilityMatrixResponse(request.dateFrom(), request.dateTo(), timeResponses, themes);
+    }
+
+    private List<Long> findThemeIds(final AvailabilityMatrixRequest request) {
+        if (request.hasThemeIds()) {
+            return request.themeIds().stream()
+                    .distinct()
+                    .toList();
+        }
+        return referenceCatalog.getThemes().stream()
+                .map(Theme::getId)
+                .toList();
+    }
+
+    private String toHex(final BitSet mask) {
+        long[] words = mask.toLongArray();
+        if (words.length == 0) {
+            return "0";
+        }
+        StringBuilder hex = new StringBuilder(Long.toHexString(words[words.length - 1]));
+        for (int i = words.length - 2; i >= 0; i--) {
+            String word = Long.toHexString(words[i]);
+            hex.append("0".repeat(16 - word.length())).append(word);
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,31 @@
+package roomescape.reservationTime.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import roomescape.reservation.service.SlotHoldService;
+import roomescape.reservationTime.domain.ReservationTimeRepository;
+import roomescape.reservationTime.dto.response.TimeConditionResponse;
+
+@Component
+@ConditionalOnProperty(name = "reservation.availability.source", havingValue = "database")
+public class DatabaseTimeAvailabilityReader implements TimeAvailabilityReader {
+
+    private final ReservationTimeRepository reservationTimeRepository;
+    private final SlotHoldService slotHoldService;
+
+    public DatabaseTimeAvailabilityReader(final ReservationTimeRepository reservationTimeRepository,
+                                          final SlotHoldService slotHoldService) {
+        this.reservationTimeRepository = reservationTimeRepository;
+        this.slotHoldService = slotHoldService;
+    }
+
+    @Override
+    public List<TimeConditionResponse> read(final LocalDate date, final Long themeId) {
+        return reservationTimeRepository.findAvailabilities(date, themeId).stream()
+                .map(availability -> new TimeConditionResponse(availability.timeId(), availability.startAt(),
+                        availability.booked() || slotHoldService.isHeld(themeId, date, availability.timeId())))
+                .toList();
+    }
+}
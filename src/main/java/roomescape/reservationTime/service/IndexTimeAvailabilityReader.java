@@ -0,0 +1,31 @@
+package roomescape.reservationTime.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.reservation.service.SlotAvailabilityIndex;
+import roomescape.reservationTime.dto.response.TimeConditionResponse;
+
+@Component
+@ConditionalOnProperty(name = "reservation.availability.source", havingValue = "index", matchIfMissing = true)
+public class IndexTimeAvailabilityReader implements TimeAvailabilityReader {
+
+    private final ReferenceCatalog referenceCatalog;
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+
+    public IndexTimeAvailabilityReader(final ReferenceCatalog referenceCatalog,
+                                       final SlotAvailabilityIndex slotAvailabilityIndex) {
+        this.referenceCatalog = referenceCatalog;
+        this.slotAvailabilityIndex = slotAvailabilityIndex;
+    }
+
+    @Override
+    public List<TimeConditionResponse> read(final LocalDate date, final Long themeId) {
+        return referenceCatalog.getTimes().stream()
+                .map(time -> new TimeConditionResponse(time.getId(), time.getStartAt(),
+                        slotAvailabilityIndex.isClaimed(themeId, date, time.getId())))
+                .toList();
+    }
+}
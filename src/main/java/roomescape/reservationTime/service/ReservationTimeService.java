@@ -2,7 +2,7 @@ package roomescape.reservationTime.service;
 
 import java.util.List;
 import org.springframework.stereotype.Service;
-import roomescape.reservation.domain.Reservation;
+import roomescape.common.catalog.ReferenceCatalog;
 import roomescape.reservation.domain.ReservationRepository;
 import roomescape.reservationTime.domain.ReservationTime;
 import roomescape.reservationTime.domain.ReservationTimeRepository;
@@ -16,16 +16,23 @@ public class ReservationTimeService {
 
     private final ReservationRepository reservationRepository;
     private final ReservationTimeRepository reservationTimeRepository;
+    private final TimeAvailabilityReader timeAvailabilityReader;
+    private final ReferenceCatalog referenceCatalog;
 
     public ReservationTimeService(final ReservationRepository reservationRepository,
-                                  final ReservationTimeRepository reservationTimeRepository) {
+                                  final ReservationTimeRepository reservationTimeRepository,
+                                  final TimeAvailabilityReader timeAvailabilityReader,
+                                  final ReferenceCatalog referenceCatalog) {
         this.reservationRepository = reservationRepository;
         this.reservationTimeRepository = reservationTimeRepository;
+        this.timeAvailabilityReader = timeAvailabilityReader;
+        this.referenceCatalog = referenceCatalog;
     }
 
     public ReservationTimeResponse createReservationTime(final ReservationTimeRequest request) {
         ReservationTime reservationTime = ReservationTime.createWithoutId(request.startAt());
         ReservationTime save = reservationTimeRepository.save(reservationTime);
+        referenceCatalog.putTime(save);
 
         return ReservationTimeResponse.from(save);
     }
@@ -35,26 +42,16 @@ public class ReservationTimeService {
             throw new IllegalArgumentException("삭제할 수 없는 예약 시간입니다.");
         }
         reservationTimeRepository.deleteById(id);
+        referenceCatalog.removeTime(id);
     }
 
     public List<ReservationTimeResponse> getReservationTimes() {
-        return reservationTimeRepository.findAll().stream()
+        return referenceCatalog.getTimes().stream()
                 .map(ReservationTimeResponse::from)
                 .toList();
     }
 
     public List<TimeConditionResponse> getTimesWithCondition(final TimeConditionRequest request) {
-        List<Reservation> reservations = reservationRepository.findByDateAndThemeId(request.date(), request.themeId());
-        List<ReservationTime> times = reservationTimeRepository.findAll();
-
-        return times.stream()
-                .map(time -> toTimeConditionResponse(time, reservations))
-                .toList();
-    }
-
-    private TimeConditionResponse toTimeConditionResponse(ReservationTime time, List<Reservation> reservations) {
-        boolean hasTime = reservations.stream()
-                .anyMatch(reservation -> reservation.isSameTime(time));
-        return new TimeConditionResponse(time.getId(), time.getStartAt(), hasTime);
+        return timeAvailabilityReader.read(request.date(), request.themeId());
     }
 }
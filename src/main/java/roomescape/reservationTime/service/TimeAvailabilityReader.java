@@ -0,0 +1,10 @@
+package roomescape.reservationTime.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import roomescape.reservationTime.dto.response.TimeConditionResponse;
+
+public interface TimeAvailabilityReader {
+
+    List<TimeConditionResponse> read(LocalDate date, Long themeId);
+}
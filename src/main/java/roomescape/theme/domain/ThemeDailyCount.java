@@ -0,0 +1,64 @@
+package roomescape.theme.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Entity
+@Table(name = "theme_daily_count", uniqueConstraints = @UniqueConstraint(
+        name = ThemeDailyCount.UNIQUE_CONSTRAINT_NAME, columnNames = {"theme_id", "date"}))
+public class ThemeDailyCount {
+
+    public static final String UNIQUE_CONSTRAINT_NAME = "uk_theme_daily_count";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "theme_id", nullable = false)
+    private Long themeId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "reservation_count", nullable = false)
+    private long reservationCount;
+
+    protected ThemeDailyCount() {
+    }
+
+    private ThemeDailyCount(final Long themeId, final LocalDate date, final long reservationCount) {
+        this.themeId = themeId;
+        this.date = date;
+        this.reservationCount = reservationCount;
+    }
+
+    public static ThemeDailyCount create(final Long themeId, final LocalDate date, final long reservationCount) {
+        if (reservationCount < 0) {
+            throw new IllegalArgumentException("예약 건수는 0 이상이어야 합니다.");
+        }
+        return new ThemeDailyCount(Objects.requireNonNull(themeId), Objects.requireNonNull(date), reservationCount);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public long getReservationCount() {
+        return reservationCount;
+    }
+}
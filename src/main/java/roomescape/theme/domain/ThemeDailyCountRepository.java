@@ -0,0 +1,14 @@
+package roomescape.theme.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import roomescape.reservation.domain.ReservationPeriod;
+
+public interface ThemeDailyCountRepository {
+
+    void increase(Long themeId, LocalDate date, int delta);
+
+    List<Theme> findPopularThemes(ReservationPeriod period, int popularCount);
+
+    void rebuild();
+}
@@ -0,0 +1,24 @@
+package roomescape.theme.dto.request;
+
+public record PopularThemeRequest(Integer startOffset, Integer endOffset, Integer count) {
+
+    private static final int DEFAULT_START_OFFSET = 8;
+    private static final int DEFAULT_END_OFFSET = 1;
+    private static final int DEFAULT_COUNT = 10;
+    private static final int MAX_COUNT = 100;
+
+    public PopularThemeRequest {
+        if (startOffset == null) {
+            startOffset = DEFAULT_START_OFFSET;
+        }
+        if (endOffset == null) {
+            endOffset = DEFAULT_END_OFFSET;
+        }
+        if (count == null) {
+            count = DEFAULT_COUNT;
+        }
+        if (count < 1 || count > MAX_COUNT) {
+            throw new IllegalArgumentException("조회할 인기 테마 개수는 1개 이상 100개 이하여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package roomescape.theme.infrastructure.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import roomescape.theme.domain.ThemeDailyCount;
+
+public interface JpaThemeDailyCountRepository extends JpaRepository<ThemeDailyCount, Long>,
+        ThemeDailyCountCustomRepository {
+}
@@ -0,0 +1,15 @@
+package roomescape.theme.infrastructure.jpa;
+
+import java.time.LocalDate;
+import java.util.List;
+import roomescape.reservation.domain.ReservationPeriod;
+import roomescape.theme.domain.Theme;
+
+public interface ThemeDailyCountCustomRepository {
+
+    void increase(Long themeId, LocalDate date, int delta);
+
+    List<Theme> findPopularThemes(ReservationPeriod period, int popularCount);
+
+    void rebuild();
+}
@@ -0,0 +1,69 @@
+package roomescape.theme.infrastructure.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import roomescape.reservation.domain.ReservationPeriod;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.domain.ThemeDailyCount;
+
+@Repository
+public class ThemeDailyCountCustomRepositoryImpl implements ThemeDailyCountCustomRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public void increase(Long themeId, LocalDate date, int delta) {
+        em.createNativeQuery("""
+                        MERGE INTO theme_daily_count c
+                        USING (SELECT CAST(:themeId AS BIGINT) AS theme_id, CAST(:date AS DATE) AS count_date,
+                                      CAST(:delta AS BIGINT) AS delta) s
+                        ON c.theme_id = s.theme_id AND c.date = s.count_date
+                        WHEN MATCHED THEN
+                            UPDATE SET reservation_count = c.reservation_count + s.delta
+                        WHEN NOT MATCHED AND s.delta > 0 THEN
+                            INSERT (theme_id, date, reservation_count) VALUES (s.theme_id, s.count_date, s.delta)
+                        """)
+                .setParameter("themeId", themeId)
+                .setParameter("date", date)
+                .setParameter("delta", (long) delta)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<Theme> findPopularThemes(ReservationPeriod period, int popularCount) {
+        return em.createQuery("""
+                        SELECT t
+                        FROM ThemeDailyCount c
+                        JOIN Theme t ON t.id = c.themeId
+                        WHERE c.date BETWEEN :start AND :end
+                        GROUP BY t
+                        HAVING SUM(c.reservationCount) > 0
+                        ORDER BY SUM(c.reservationCount) DESC, t.id
+                        """, Theme.class)
+                .setParameter("start", period.findStartDate())
+                .setParameter("end", period.findEndDate())
+                .setMaxResults(popularCount)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public void rebuild() {
+        em.createQuery("DELETE FROM ThemeDailyCount").executeUpdate();
+        List<Object[]> rows = em.createQuery("""
+                        SELECT r.theme.id, r.date, COUNT(r)
+                        FROM Reservation r
+                        GROUP BY r.theme.id, r.date
+                        """, Object[].class)
+                .getResultList();
+        for (Object[] row : rows) {
+            em.persist(ThemeDailyCount.create((Long) row[0], (LocalDate) row[1], (Long) row[2]));
+        }
+    }
+}
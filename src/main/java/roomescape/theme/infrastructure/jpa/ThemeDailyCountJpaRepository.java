@@ -0,0 +1,58 @@
+package roomescape.theme.infrastructure.jpa;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+import roomescape.reservation.domain.ReservationPeriod;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.domain.ThemeDailyCount;
+import roomescape.theme.domain.ThemeDailyCountRepository;
+
+@Repository
+public class ThemeDailyCountJpaRepository implements ThemeDailyCountRepository {
+
+    private final JpaThemeDailyCountRepository jpaThemeDailyCountRepository;
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    public ThemeDailyCountJpaRepository(JpaThemeDailyCountRepository jpaThemeDailyCountRepository) {
+        this.jpaThemeDailyCountRepository = jpaThemeDailyCountRepository;
+    }
+
+    @Override
+    public void increase(Long themeId, LocalDate date, int delta) {
+        rebuildLock.readLock().lock();
+        try {
+            jpaThemeDailyCountRepository.increase(themeId, date, delta);
+        } catch (DataIntegrityViolationException e) {
+            if (!isUniqueConstraintViolation(e)) {
+                throw e;
+            }
+            jpaThemeDailyCountRepository.increase(themeId, date, delta);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Theme> findPopularThemes(ReservationPeriod period, int popularCount) {
+        return jpaThemeDailyCountRepository.findPopularThemes(period, popularCount);
+    }
+
+    @Override
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            jpaThemeDailyCountRepository.rebuild();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private boolean isUniqueConstraintViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(ThemeDailyCount.UNIQUE_CONSTRAINT_NAME);
+    }
+}
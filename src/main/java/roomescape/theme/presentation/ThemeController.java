@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import roomescape.theme.dto.request.PopularThemeRequest;
 import roomescape.theme.dto.request.ThemeRequest;
 import roomescape.theme.dto.response.PopularThemeResponse;
 import roomescape.theme.dto.response.ThemeResponse;
@@ -35,8 +36,8 @@ public class ThemeController {
     }
 
     @GetMapping("/popular")
-    public ResponseEntity<List<PopularThemeResponse>> getPopularThemes() {
-        List<PopularThemeResponse> responses = themeService.getPopularThemes();
+    public ResponseEntity<List<PopularThemeResponse>> getPopularThemes(final PopularThemeRequest request) {
+        List<PopularThemeResponse> responses = themeService.getPopularThemes(request);
         return ResponseEntity.ok().body(responses);
     }
 
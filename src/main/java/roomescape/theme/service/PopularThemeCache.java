@@ -0,0 +1,108 @@
+package roomescape.theme.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import roomescape.theme.dto.request.PopularThemeRequest;
+import roomescape.theme.dto.response.PopularThemeResponse;
+
+@Component
+public class PopularThemeCache {
+
+    private static final int MAX_ENTRIES = 64;
+
+    private final Map<PopularThemeRequest, Result> results = new ConcurrentHashMap<>();
+    private final Map<PopularThemeRequest, CompletableFuture<Result>> refreshes = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public List<PopularThemeResponse> get(final PopularThemeRequest request, final LocalDate today,
+                                          final Function<PopularThemeRequest, List<PopularThemeResponse>> loader) {
+        Result cached = results.get(request);
+        if (cached != null && cached.isFreshOn(today)) {
+            return cached.themes();
+        }
+        CompletableFuture<Result> refresh = new CompletableFuture<>();
+        CompletableFuture<Result> running = refreshes.putIfAbsent(request, refresh);
+        if (running != null) {
+            if (cached != null) {
+                return cached.themes();
+            }
+            return await(running).themes();
+        }
+        return load(request, today, loader, refresh).themes();
+    }
+
+    public void refresh(final LocalDate today,
+                        final Function<PopularThemeRequest, List<PopularThemeResponse>> loader) {
+        for (PopularThemeRequest request : List.copyOf(results.keySet())) {
+            CompletableFuture<Result> refresh = new CompletableFuture<>();
+            if (refreshes.putIfAbsent(request, refresh) == null) {
+                load(request, today, loader, refresh);
+            }
+        }
+    }
+
+    public void invalidate(final LocalDate reservationDate) {
+        generation.incrementAndGet();
+        results.replaceAll((request, result) -> result.covers(reservationDate) ? result.toStale() : result);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        results.replaceAll((request, result) -> result.toStale());
+    }
+
+    private Result load(final PopularThemeRequest request, final LocalDate today,
+                        final Function<PopularThemeRequest, List<PopularThemeResponse>> loader,
+                        final CompletableFuture<Result> refresh) {
+        try {
+            long loadedGeneration = generation.get();
+            List<PopularThemeResponse> themes = List.copyOf(loader.apply(request));
+            Result result = new Result(today, today.minusDays(request.startOffset()),
+                    today.minusDays(request.endOffset()), themes, loadedGeneration != generation.get());
+            if (results.size() < MAX_ENTRIES || results.containsKey(request)) {
+                results.put(request, result);
+            }
+            refresh.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            refresh.completeExceptionally(e);
+            throw e;
+        } finally {
+            refreshes.remove(request, refresh);
+        }
+    }
+
+    private Result await(final CompletableFuture<Result> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Result(LocalDate loadedOn, LocalDate windowStart, LocalDate windowEnd,
+                          List<PopularThemeResponse> themes, boolean stale) {
+
+        private boolean isFreshOn(final LocalDate today) {
+            return !stale && loadedOn.equals(today);
+        }
+
+        private boolean covers(final LocalDate date) {
+            return !date.isBefore(windowStart) && !date.isAfter(windowEnd);
+        }
+
+        private Result toStale() {
+            return new Result(loadedOn, windowStart, windowEnd, themes, true);
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package roomescape.theme.service;
 
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import roomescape.common.catalog.ReferenceCatalog;
 import roomescape.common.util.DateTime;
 import roomescape.reservation.domain.ReservationPeriod;
 import roomescape.reservation.domain.ReservationRepository;
 import roomescape.theme.domain.Theme;
+import roomescape.theme.domain.ThemeDailyCountRepository;
 import roomescape.theme.domain.ThemeRepository;
+import roomescape.theme.dto.request.PopularThemeRequest;
 import roomescape.theme.dto.request.ThemeRequest;
 import roomescape.theme.dto.response.PopularThemeResponse;
 import roomescape.theme.dto.response.ThemeResponse;
@@ -14,25 +21,31 @@ import roomescape.theme.dto.response.ThemeResponse;
 @Service
 public class ThemeService {
 
-    private static final int POPULAR_THEME_COUNT = 10;
-    private static final int START_OFFSET_DAYS = 8;
-    private static final int END_OFFSET_DAYS = 1;
-
     private final DateTime dateTime;
     private final ThemeRepository themeRepository;
     private final ReservationRepository reservationRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final ThemeDailyCountRepository themeDailyCountRepository;
+    private final PopularThemeCache popularThemeCache;
 
     public ThemeService(final DateTime dateTime,
                         final ThemeRepository themeRepository,
-                        final ReservationRepository reservationRepository) {
+                        final ReservationRepository reservationRepository,
+                        final ReferenceCatalog referenceCatalog,
+                        final ThemeDailyCountRepository themeDailyCountRepository,
+                        final PopularThemeCache popularThemeCache) {
         this.dateTime = dateTime;
         this.themeRepository = themeRepository;
         this.reservationRepository = reservationRepository;
+        this.referenceCatalog = referenceCatalog;
+        this.themeDailyCountRepository = themeDailyCountRepository;
+        this.popularThemeCache = popularThemeCache;
     }
 
     public ThemeResponse createTheme(final ThemeRequest request) {
         Theme theme = Theme.createWithoutId(request.name(), request.description(), request.thumbnail());
         Theme save = themeRepository.save(theme);
+        referenceCatalog.putTheme(save);
 
         return ThemeResponse.from(save);
     }
@@ -42,19 +55,37 @@ public class ThemeService {
             throw new IllegalArgumentException("예약한 기록이 존재하여 삭제할 수 없습니다.");
         }
         themeRepository.deleteById(id);
+        referenceCatalog.removeTheme(id);
     }
 
     public List<ThemeResponse> getThemes() {
-        return themeRepository.findAll().stream()
+        return referenceCatalog.getThemes().stream()
                 .map(ThemeResponse::from)
                 .toList();
     }
 
-    public List<PopularThemeResponse> getPopularThemes() {
-        ReservationPeriod period = new ReservationPeriod(dateTime.nowDate(), START_OFFSET_DAYS, END_OFFSET_DAYS);
+    public List<PopularThemeResponse> getPopularThemes(final PopularThemeRequest request) {
+        LocalDate today = dateTime.nowDate();
+        return popularThemeCache.get(request, today, key -> loadPopularThemes(key, today));
+    }
+
+    @Scheduled(cron = "${theme.popular.refresh-cron:0 0 0 * * *}")
+    public void refreshPopularThemes() {
+        LocalDate today = dateTime.nowDate();
+        popularThemeCache.refresh(today, key -> loadPopularThemes(key, today));
+    }
 
-        return themeRepository.findPopularThemes(period, POPULAR_THEME_COUNT).stream()
+    private List<PopularThemeResponse> loadPopularThemes(final PopularThemeRequest request, final LocalDate today) {
+        ReservationPeriod period = new ReservationPeriod(today, request.startOffset(), request.endOffset());
+
+        return themeDailyCountRepository.findPopularThemes(period, request.count()).stream()
                 .map(theme -> new PopularThemeResponse(theme.getName(), theme.getThumbnail(), theme.getDescription()))
                 .toList();
     }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildDailyCounts() {
+        themeDailyCountRepository.rebuild();
+        popularThemeCache.invalidateAll();
+    }
 }
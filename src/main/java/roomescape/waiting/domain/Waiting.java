@@ -0,0 +1,133 @@
+package roomescape.waiting.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Objects;
+import roomescape.member.domain.Member;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.theme.domain.Theme;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = Waiting.MEMBER_SLOT_CONSTRAINT_NAME, columnNames = {"member_id", "date", "time_id", "theme_id"}))
+public class Waiting {
+
+    public static final String MEMBER_SLOT_CONSTRAINT_NAME = "uk_waiting_member_slot";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    private Member member;
+
+    private LocalDate date;
+
+    @ManyToOne
+    private ReservationTime time;
+
+    @ManyToOne
+    private Theme theme;
+
+    protected Waiting() {
+    }
+
+    private Waiting(final Long id, final Member member, final LocalDate date, final ReservationTime time,
+                    final Theme theme) {
+        this.id = id;
+        this.member = member;
+        this.date = date;
+        this.time = time;
+        this.theme = theme;
+    }
+
+    public static Waiting createWithoutId(final LocalDateTime now, final Member member, final LocalDate date,
+                                          final ReservationTime time, final Theme theme) {
+        Reservation.validateReservationDateTime(now, date, time);
+        return new Waiting(null, member, date, time, theme);
+    }
+
+    public static Waiting createWithId(final Long id, final Member member, final LocalDate date,
+                                       final ReservationTime time, final Theme theme) {
+        return new Waiting(Objects.requireNonNull(id), member, date, time, theme);
+    }
+
+    public Waiting assignId(final Long id) {
+        return new Waiting(Objects.requireNonNull(id), member, date, time, theme);
+    }
+
+    public Reservation promote() {
+        return Reservation.createPromoted(member, date, time, theme);
+    }
+
+    public boolean isOwnedBy(final Long memberId) {
+        return Objects.equals(member.getId(), memberId);
+    }
+
+    public Long memberId() {
+        return member.getId();
+    }
+
+    public Long timeId() {
+        return time.getId();
+    }
+
+    public Long themeId() {
+        return theme.getId();
+    }
+
+    public LocalTime reservationTime() {
+        return time.getStartAt();
+    }
+
+    public String themeName() {
+        return theme.getName();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Member getMember() {
+        return member;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public ReservationTime getTime() {
+        return time;
+    }
+
+    public Theme getTheme() {
+        return theme;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (!(object instanceof Waiting that)) {
+            return false;
+        }
+
+        if (getId() == null && that.getId() == null) {
+            return false;
+        }
+
+        return Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+}
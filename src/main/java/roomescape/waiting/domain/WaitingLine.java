@@ -0,0 +1,119 @@
+package roomescape.waiting.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class WaitingLine {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private long[] waitingIds = new long[MIN_CAPACITY];
+    private int[] tree = new int[MIN_CAPACITY + 1];
+    private int size;
+
+    public void add(final Long waitingId) {
+        if (positions.containsKey(waitingId)) {
+            return;
+        }
+        if (size == waitingIds.length) {
+            compact();
+        }
+        waitingIds[size] = waitingId;
+        positions.put(waitingId, size);
+        size++;
+        update(size, 1);
+    }
+
+    public boolean remove(final Long waitingId) {
+        Integer position = positions.remove(waitingId);
+        if (position == null) {
+            return false;
+        }
+        update(position + 1, -1);
+        return true;
+    }
+
+    public void clear() {
+        positions.clear();
+        waitingIds = new long[MIN_CAPACITY];
+        tree = new int[MIN_CAPACITY + 1];
+        size = 0;
+    }
+
+    public int rankOf(final Long waitingId) {
+        Integer position = positions.get(waitingId);
+        if (position == null) {
+            return 0;
+        }
+        return prefixSum(position + 1);
+    }
+
+    public Optional<Long> first() {
+        if (positions.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(waitingIds[findPosition(1)]);
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    private void update(final int index, final int delta) {
+        for (int i = index; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int prefixSum(final int index) {
+        int sum = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private int findPosition(final int rank) {
+        int position = 0;
+        int remaining = rank;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] < remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        return position;
+    }
+
+    private void compact() {
+        int capacity = Math.max(MIN_CAPACITY, positions.size() * 2);
+        long[] compacted = new long[capacity];
+        int[] compactedTree = new int[capacity + 1];
+        int compactedSize = 0;
+        for (int i = 0; i < size; i++) {
+            Long waitingId = waitingIds[i];
+            if (positions.containsKey(waitingId) && positions.get(waitingId) == i) {
+                compacted[compactedSize] = waitingId;
+                positions.put(waitingId, compactedSize);
+                compactedTree[compactedSize + 1] = 1;
+                compactedSize++;
+            }
+        }
+        for (int i = 1; i <= capacity; i++) {
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                compactedTree[parent] += compactedTree[i];
+            }
+        }
+        waitingIds = compacted;
+        tree = compactedTree;
+        size = compactedSize;
+    }
+}
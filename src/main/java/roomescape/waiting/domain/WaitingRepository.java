@@ -0,0 +1,25 @@
+package roomescape.waiting.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import roomescape.reservation.domain.ReservationKey;
+
+public interface WaitingRepository {
+
+    Waiting save(Waiting waiting);
+
+    Optional<Waiting> findById(Long id);
+
+    List<Waiting> findAll();
+
+    List<Waiting> findByMemberId(Long memberId);
+
+    List<WaitingView> findPageByMemberId(Long memberId, ReservationKey after, int size);
+
+    void deleteById(Long id);
+
+    int deleteByReservationIdIn(List<Long> reservationIds);
+
+    int deleteByCondition(Long themeId, Long timeId, LocalDate dateFrom, LocalDate dateTo);
+}
@@ -0,0 +1,12 @@
+package roomescape.waiting.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import roomescape.reservation.domain.ReservationKey;
+
+public record WaitingView(Long id, LocalDate date, Long timeId, LocalTime startAt, Long themeId, String themeName) {
+
+    public ReservationKey key() {
+        return new ReservationKey(date, startAt, id);
+    }
+}
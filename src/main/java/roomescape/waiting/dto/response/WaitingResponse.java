@@ -0,0 +1,10 @@
+package roomescape.waiting.dto.response;
+
+import java.time.LocalDate;
+import roomescape.waiting.domain.Waiting;
+
+public record WaitingResponse(Long id, LocalDate date, Long timeId, Long themeId, int rank) {
+    public static WaitingResponse from(final Waiting waiting, final int rank) {
+        return new WaitingResponse(waiting.getId(), waiting.getDate(), waiting.timeId(), waiting.themeId(), rank);
+    }
+}
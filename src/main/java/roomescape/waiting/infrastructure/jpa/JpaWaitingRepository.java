@@ -0,0 +1,26 @@
+package roomescape.waiting.infrastructure.jpa;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import roomescape.waiting.domain.Waiting;
+
+public interface JpaWaitingRepository extends JpaRepository<Waiting, Long>, WaitingCustomRepository {
+
+    @EntityGraph(attributePaths = {"theme", "time"})
+    List<Waiting> findByMemberId(Long memberId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            DELETE FROM Waiting w
+            WHERE EXISTS (
+                SELECT 1 FROM Reservation r
+                WHERE r.id IN :reservationIds
+                AND r.date = w.date AND r.time.id = w.time.id AND r.theme.id = w.theme.id
+            )
+            """)
+    int deleteByReservationIdIn(@Param("reservationIds") List<Long> reservationIds);
+}
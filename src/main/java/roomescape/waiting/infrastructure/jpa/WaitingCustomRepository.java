@@ -0,0 +1,13 @@
+package roomescape.waiting.infrastructure.jpa;
+
+import java.time.LocalDate;
+import java.util.List;
+import roomescape.reservation.domain.ReservationKey;
+import roomescape.waiting.domain.WaitingView;
+
+public interface WaitingCustomRepository {
+
+    List<WaitingView> findPageByMemberId(Long memberId, ReservationKey after, int size);
+
+    int deleteByCondition(Long themeId, Long timeId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,52 @@
+package roomescape.waiting.infrastructure.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+import roomescape.common.jpa.ConditionalQuery;
+import roomescape.reservation.domain.ReservationKey;
+import roomescape.waiting.domain.WaitingView;
+
+@Repository
+public class WaitingCustomRepositoryImpl implements WaitingCustomRepository {
+
+    private static final String VIEW_SELECT =
+            "SELECT new roomescape.waiting.domain.WaitingView(w.id, w.date, t.id, t.startAt, th.id, th.name)"
+                    + " FROM Waiting w JOIN w.theme th JOIN w.time t WHERE w.member.id = :memberId";
+    private static final String AFTER_KEY = " AND (w.date > :afterDate OR (w.date = :afterDate"
+            + " AND (t.startAt > :afterStartAt OR (t.startAt = :afterStartAt AND w.id > :afterId))))";
+    private static final String PAGE_ORDER = " ORDER BY w.date, t.startAt, w.id";
+
+    private static final String FIRST_PAGE_QUERY = VIEW_SELECT + PAGE_ORDER;
+    private static final String NEXT_PAGE_QUERY = VIEW_SELECT + AFTER_KEY + PAGE_ORDER;
+    private static final ConditionalQuery DELETE_QUERY = ConditionalQuery.of("DELETE FROM Waiting w", List.of(
+            "w.theme.id = :themeId", "w.time.id = :timeId", "w.date >= :from", "w.date <= :to"), "");
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<WaitingView> findPageByMemberId(Long memberId, ReservationKey after, int size) {
+        String query = after == null ? FIRST_PAGE_QUERY : NEXT_PAGE_QUERY;
+        TypedQuery<WaitingView> typedQuery = em.createQuery(query, WaitingView.class)
+                .setParameter("memberId", memberId);
+        if (after != null) {
+            typedQuery.setParameter("afterDate", after.date());
+            typedQuery.setParameter("afterStartAt", after.startAt());
+            typedQuery.setParameter("afterId", after.id());
+        }
+        return typedQuery.setMaxResults(size)
+                .getResultList();
+    }
+
+    @Override
+    public int deleteByCondition(Long themeId, Long timeId, LocalDate from, LocalDate to) {
+        int deletedCount = DELETE_QUERY.createStatement(em, themeId, timeId, from, to)
+                .executeUpdate();
+        em.clear();
+        return deletedCount;
+    }
+}
@@ -0,0 +1,73 @@
+package roomescape.waiting.infrastructure.jpa;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import roomescape.reservation.domain.ReservationKey;
+import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.domain.WaitingRepository;
+import roomescape.waiting.domain.WaitingView;
+
+@Component
+public class WaitingJpaRepository implements WaitingRepository {
+
+    private final JpaWaitingRepository jpaWaitingRepository;
+
+    public WaitingJpaRepository(JpaWaitingRepository jpaWaitingRepository) {
+        this.jpaWaitingRepository = jpaWaitingRepository;
+    }
+
+    @Override
+    public Waiting save(Waiting waiting) {
+        try {
+            return jpaWaitingRepository.save(waiting);
+        } catch (DataIntegrityViolationException e) {
+            if (isMemberSlotConstraintViolation(e)) {
+                throw new IllegalArgumentException("이미 예약 대기 중입니다.");
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Waiting> findById(Long id) {
+        return jpaWaitingRepository.findById(id);
+    }
+
+    @Override
+    public List<Waiting> findAll() {
+        return jpaWaitingRepository.findAll();
+    }
+
+    @Override
+    public List<Waiting> findByMemberId(Long memberId) {
+        return jpaWaitingRepository.findByMemberId(memberId);
+    }
+
+    @Override
+    public List<WaitingView> findPageByMemberId(Long memberId, ReservationKey after, int size) {
+        return jpaWaitingRepository.findPageByMemberId(memberId, after, size);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jpaWaitingRepository.deleteById(id);
+    }
+
+    @Override
+    public int deleteByReservationIdIn(List<Long> reservationIds) {
+        return jpaWaitingRepository.deleteByReservationIdIn(reservationIds);
+    }
+
+    @Override
+    public int deleteByCondition(Long themeId, Long timeId, LocalDate dateFrom, LocalDate dateTo) {
+        return jpaWaitingRepository.deleteByCondition(themeId, timeId, dateFrom, dateTo);
+    }
+
+    private boolean isMemberSlotConstraintViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase().contains(Waiting.MEMBER_SLOT_CONSTRAINT_NAME);
+    }
+}
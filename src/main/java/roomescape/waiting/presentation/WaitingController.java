@@ -0,0 +1,50 @@
+package roomescape.waiting.presentation;
+
+import static roomescape.waiting.presentation.WaitingController.WAITING_BASE_URL;
+
+import java.net.URI;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.common.argumentResolver.Login;
+import roomescape.member.dto.request.LoginMember;
+import roomescape.waiting.dto.request.WaitingRequest;
+import roomescape.waiting.dto.response.WaitingResponse;
+import roomescape.waiting.service.WaitingService;
+
+@RestController
+@RequestMapping(WAITING_BASE_URL)
+public class WaitingController {
+
+    public static final String WAITING_BASE_URL = "/waitings";
+    private static final String SLASH = "/";
+
+    private final WaitingService waitingService;
+
+    public WaitingController(final WaitingService waitingService) {
+        this.waitingService = waitingService;
+    }
+
+    @PostMapping
+    public ResponseEntity<WaitingResponse> createWaiting(
+            @RequestBody final WaitingRequest request,
+            @Login final LoginMember loginMember
+    ) {
+        WaitingResponse response = waitingService.createWaiting(request, loginMember.id());
+        URI locationUri = URI.create(WAITING_BASE_URL + SLASH + response.id());
+        return ResponseEntity.created(locationUri).body(response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteWaitingById(
+            @PathVariable("id") final Long id,
+            @Login final LoginMember loginMember
+    ) {
+        waitingService.deleteWaitingById(id, loginMember.id());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,114 @@
+package roomescape.waiting.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.domain.WaitingLine;
+import roomescape.waiting.domain.WaitingRepository;
+
+@Component
+public class WaitingLineIndex {
+
+    private final WaitingRepository waitingRepository;
+    private final Map<WaitingSlot, WaitingLine> lines = new ConcurrentHashMap<>();
+
+    public WaitingLineIndex(final WaitingRepository waitingRepository) {
+        this.waitingRepository = waitingRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lines.clear();
+        waitingRepository.findAll().stream()
+                .sorted(Comparator.comparing(Waiting::getId))
+                .forEach(waiting -> add(waiting.themeId(), waiting.getDate(), waiting.timeId(), waiting.getId()));
+    }
+
+    public <T> T withLine(final Long themeId, final LocalDate date, final Long timeId, final Supplier<T> action) {
+        WaitingSlot slot = new WaitingSlot(themeId, date, timeId);
+        while (true) {
+            WaitingLine line = lines.computeIfAbsent(slot, key -> new WaitingLine());
+            synchronized (line) {
+                if (lines.get(slot) != line) {
+                    continue;
+                }
+                try {
+                    return action.get();
+                } finally {
+                    if (line.isEmpty()) {
+                        lines.remove(slot, line);
+                    }
+                }
+            }
+        }
+    }
+
+    public void add(final Long themeId, final LocalDate date, final Long timeId, final Long waitingId) {
+        WaitingSlot slot = new WaitingSlot(themeId, date, timeId);
+        while (true) {
+            WaitingLine line = lines.computeIfAbsent(slot, key -> new WaitingLine());
+            synchronized (line) {
+                if (lines.get(slot) == line) {
+                    line.add(waitingId);
+                    return;
+                }
+            }
+        }
+    }
+
+    public void remove(final Long themeId, final LocalDate date, final Long timeId, final Long waitingId) {
+        WaitingLine line = lines.get(new WaitingSlot(themeId, date, timeId));
+        if (line == null) {
+            return;
+        }
+        synchronized (line) {
+            line.remove(waitingId);
+        }
+    }
+
+    public void clear(final Long themeId, final LocalDate date, final Long timeId) {
+        WaitingSlot slot = new WaitingSlot(themeId, date, timeId);
+        WaitingLine line = lines.get(slot);
+        if (line == null) {
+            return;
+        }
+        synchronized (line) {
+            line.clear();
+            lines.remove(slot, line);
+        }
+    }
+
+    public int rankOf(final Long themeId, final LocalDate date, final Long timeId, final Long waitingId) {
+        WaitingLine line = lines.get(new WaitingSlot(themeId, date, timeId));
+        if (line == null) {
+            return 0;
+        }
+        synchronized (line) {
+            return line.rankOf(waitingId);
+        }
+    }
+
+    public Optional<Long> first(final Long themeId, final LocalDate date, final Long timeId) {
+        WaitingLine line = lines.get(new WaitingSlot(themeId, date, timeId));
+        if (line == null) {
+            return Optional.empty();
+        }
+        synchronized (line) {
+            return line.first();
+        }
+    }
+
+    int lineCount() {
+        return lines.size();
+    }
+
+    private record WaitingSlot(Long themeId, LocalDate date, Long timeId) {
+    }
+}
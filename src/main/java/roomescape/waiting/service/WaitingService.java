@@ -0,0 +1,89 @@
+package roomescape.waiting.service;
+
+import java.util.Optional;
+import org.springframework.stereotype.Service;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.common.util.DateTime;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRepository;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.theme.domain.Theme;
+import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.domain.WaitingRepository;
+import roomescape.waiting.dto.request.WaitingRequest;
+import roomescape.waiting.dto.response.WaitingResponse;
+
+@Service
+public class WaitingService {
+
+    private final DateTime dateTime;
+    private final WaitingRepository waitingRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReferenceCatalog referenceCatalog;
+    private final MemberRepository memberRepository;
+    private final WaitingLineIndex waitingLineIndex;
+
+    public WaitingService(
+            final DateTime dateTime,
+            final WaitingRepository waitingRepository,
+            final ReservationRepository reservationRepository,
+            final ReferenceCatalog referenceCatalog,
+            final MemberRepository memberRepository,
+            final WaitingLineIndex waitingLineIndex
+    ) {
+        this.dateTime = dateTime;
+        this.waitingRepository = waitingRepository;
+        this.reservationRepository = reservationRepository;
+        this.referenceCatalog = referenceCatalog;
+        this.memberRepository = memberRepository;
+        this.waitingLineIndex = waitingLineIndex;
+    }
+
+    public WaitingResponse createWaiting(final WaitingRequest request, final Long memberId) {
+        ReservationTime time = referenceCatalog.findTime(request.timeId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 시간입니다."));
+        Theme theme = referenceCatalog.findTheme(request.themeId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 테마입니다."));
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("존재 하지 않는 유저입니다."));
+        Waiting waiting = Waiting.createWithoutId(dateTime.now(), member, request.date(), time, theme);
+
+        return waitingLineIndex.withLine(request.themeId(), request.date(), request.timeId(), () -> {
+            validateReservedByOther(waiting);
+            Waiting save = waitingRepository.save(waiting);
+            waitingLineIndex.add(save.themeId(), save.getDate(), save.timeId(), save.getId());
+            int rank = waitingLineIndex.rankOf(save.themeId(), save.getDate(), save.timeId(), save.getId());
+            return WaitingResponse.from(save, rank);
+        });
+    }
+
+    public void deleteWaitingById(final Long id, final Long memberId) {
+        Optional<Waiting> findWaiting = waitingRepository.findById(id);
+        if (findWaiting.isEmpty()) {
+            return;
+        }
+
+        Waiting waiting = findWaiting.get();
+        if (!waiting.isOwnedBy(memberId)) {
+            throw new IllegalArgumentException("본인의 예약 대기만 취소할 수 있습니다.");
+        }
+
+        waitingLineIndex.withLine(waiting.themeId(), waiting.getDate(), waiting.timeId(), () -> {
+            waitingRepository.deleteById(id);
+            waitingLineIndex.remove(waiting.themeId(), waiting.getDate(), waiting.timeId(), id);
+            return null;
+        });
+    }
+
+    private void validateReservedByOther(final Waiting waiting) {
+        Optional<Long> reservedMemberId = reservationRepository.findMemberIdBySlot(
+                waiting.getDate(), waiting.timeId(), waiting.themeId());
+        if (reservedMemberId.isEmpty()) {
+            throw new IllegalArgumentException("예약이 없는 시간에는 예약 대기를 할 수 없습니다.");
+        }
+        if (waiting.isOwnedBy(reservedMemberId.get())) {
+            throw new IllegalArgumentException("이미 예약한 시간입니다.");
+        }
+    }
+}
@@ -1,3 +1,5 @@
+DROP TABLE theme_daily_count IF EXISTS;
+DROP TABLE waiting IF EXISTS;
 DROP TABLE reservation IF EXISTS;
 DROP TABLE reservation_time IF EXISTS;
 DROP TABLE theme IF EXISTS;
@@ -6,7 +8,7 @@ DROP TABLE member IF EXISTS;
 CREATE TABLE reservation_time
 (
     id   BIGINT       NOT NULL AUTO_INCREMENT,
-    start_at VARCHAR(255) NOT NULL,
+    start_at TIME         NOT NULL,
     PRIMARY KEY (id)
 );
 
@@ -26,18 +28,47 @@ CREATE TABLE member
     email VARCHAR(50) NOT NULL,
     role VARCHAR(5) NOT NULL,
     password VARCHAR(255) NOT NULL,
-    PRIMARY KEY (id)
+    PRIMARY KEY (id),
+    CONSTRAINT uk_member_email UNIQUE (email)
 );
 
 CREATE TABLE reservation
 (
     id   BIGINT       NOT NULL AUTO_INCREMENT,
-    date VARCHAR(255) NOT NULL,
+    date DATE         NOT NULL,
     member_id BIGINT,
     time_id BIGINT,
     theme_id BIGINT,
     PRIMARY KEY (id),
+    CONSTRAINT uk_reservation_slot UNIQUE (date, time_id, theme_id),
     FOREIGN KEY (time_id) REFERENCES reservation_time (id),
     FOREIGN KEY (theme_id) REFERENCES theme (id),
     FOREIGN KEY (member_id) REFERENCES member (id)
-);
\ No newline at end of file
+);
+
+CREATE INDEX idx_reservation_theme_date_time ON reservation (theme_id, date, time_id);
+CREATE INDEX idx_reservation_member_date ON reservation (member_id, date);
+
+CREATE TABLE waiting
+(
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    date DATE         NOT NULL,
+    member_id BIGINT,
+    time_id BIGINT,
+    theme_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_waiting_member_slot UNIQUE (member_id, date, time_id, theme_id),
+    FOREIGN KEY (time_id) REFERENCES reservation_time (id),
+    FOREIGN KEY (theme_id) REFERENCES theme (id),
+    FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE theme_daily_count
+(
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    theme_id          BIGINT NOT NULL,
+    date              DATE   NOT NULL,
+    reservation_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_theme_daily_count UNIQUE (theme_id, date)
+);
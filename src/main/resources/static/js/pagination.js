@@ -0,0 +1,36 @@
+function requestPage(endpoint, cursor = null) {
+  const separator = endpoint.includes('?') ? '&' : '?';
+  const url = cursor ? `${endpoint}${separator}cursor=${encodeURIComponent(cursor)}` : endpoint;
+  return fetch(url)
+      .then(response => {
+        if (response.status === 200) return response.json();
+        throw new Error('Read failed');
+      });
+}
+
+function paginate(endpoint, renderItems, anchor) {
+  const moreButton = createMoreButton(anchor);
+  const load = cursor => requestPage(endpoint, cursor)
+      .then(page => {
+        renderItems(page.items);
+        moreButton.hidden = !page.nextCursor;
+        moreButton.onclick = () => load(page.nextCursor)
+            .catch(error => console.error('Error fetching page:', error));
+      });
+  return load();
+}
+
+function createMoreButton(anchor) {
+  const buttonId = anchor.id + '-more';
+  let button = document.getElementById(buttonId);
+  if (!button) {
+    button = document.createElement('button');
+    button.id = buttonId;
+    button.type = 'button';
+    button.textContent = '더 보기';
+    button.classList.add('btn', 'btn-secondary', 'mt-2');
+    (anchor.closest('table') || anchor).insertAdjacentElement('afterend', button);
+  }
+  button.hidden = true;
+  return button;
+}
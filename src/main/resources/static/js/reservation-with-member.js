@@ -11,8 +11,7 @@ document.addEventListener('DOMContentLoaded', () => {
   document.getElementById('add-button').addEventListener('click', addInputRow);
   document.getElementById('filter-form').addEventListener('submit', applyFilter);
 
-  requestRead(RESERVATION_API_ENDPOINT)
-      .then(render)
+  paginate(RESERVATION_API_ENDPOINT, render, document.getElementById('table-body'))
       .catch(error => console.error('Error fetching reservations:', error));
 
   fetchTimes();
@@ -22,7 +21,6 @@ document.addEventListener('DOMContentLoaded', () => {
 
 function render(data) {
   const tableBody = document.getElementById('table-body');
-  tableBody.innerHTML = '';
 
   data.forEach(item => {
     const row = tableBody.insertRow();
@@ -56,11 +54,10 @@ function fetchThemes() {
 }
 
 function fetchMembers() {
-  requestRead(MEMBER_API_ENDPOINT)
-      .then(data => {
-        membersOptions.push(...data);
-        populateSelect('member', membersOptions, 'name');
-      })
+  paginate(MEMBER_API_ENDPOINT, data => {
+    membersOptions.push(...data);
+    populateSelect('member', data, 'name');
+  }, document.getElementById('member'))
       .catch(error => console.error('Error fetching member:', error));
 }
 
@@ -192,15 +189,10 @@ function applyFilter(event) {
   const dateFrom = document.getElementById('date-from').value;
   const dateTo = document.getElementById('date-to').value;
 
-  fetch('/reservations?themeId='+themeId+"&memberId="+memberId+"&dateFrom="+dateFrom+"&dateTo="+dateTo, { // 예약 검색 API 호출
-    method: 'GET',
-    headers: {
-      'Content-Type': 'application/x-www-form-urlencoded'
-    },
-  }).then(response => {
-    if (response.status === 200) return response.json();
-    throw new Error('Read failed');
-  }).then(render)
+  const tableBody = document.getElementById('table-body');
+  tableBody.innerHTML = '';
+  const endpoint = '/reservations?themeId='+themeId+"&memberId="+memberId+"&dateFrom="+dateFrom+"&dateTo="+dateTo;
+  paginate(endpoint, render, tableBody) // 예약 검색 API 호출
       .catch(error => console.error("Error fetching available times:", error));
 }
 
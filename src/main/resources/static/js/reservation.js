@@ -6,8 +6,7 @@ const timesOptions = [];
 document.addEventListener('DOMContentLoaded', () => {
     document.getElementById('add-button').addEventListener('click', addInputRow);
 
-    requestRead(RESERVATION_API_ENDPOINT)
-        .then(render)
+    paginate(RESERVATION_API_ENDPOINT, render, document.getElementById('table-body'))
         .catch(error => console.error('Error fetching reservations:', error));
 
     fetchTimes();
@@ -15,7 +14,6 @@ document.addEventListener('DOMContentLoaded', () => {
 
 function render(data) {
     const tableBody = document.getElementById('table-body');
-    tableBody.innerHTML = '';
 
     data.forEach(item => {
         const row = tableBody.insertRow();
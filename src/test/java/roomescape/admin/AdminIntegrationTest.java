@@ -43,6 +43,6 @@ public class AdminIntegrationTest {
                 .when().get("/reservations")
                 .then().log().all()
                 .statusCode(200)
-                .body("size()", is(0));
+                .body("items.size()", is(0));
     }
 }
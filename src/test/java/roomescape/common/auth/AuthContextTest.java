@@ -0,0 +1,38 @@
+package roomescape.common.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.Cookie;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import roomescape.common.util.JwtTokenContainer;
+import roomescape.common.util.TokenCookieManager;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.Role;
+
+class AuthContextTest {
+
+    private final JwtTokenContainer jwtTokenContainer = new JwtTokenContainer(
+            "sdfsdafsadfsadfsdafsadfsafsadfsldajfsdajf");
+    private final AuthContext authContext = new AuthContext(new TokenCookieManager(), jwtTokenContainer);
+
+    @Test
+    @DisplayName("한 요청 안에서는 처음 검증한 클레임을 다시 사용한다.")
+    void claims_reused_within_request() {
+        // given
+        Member member = Member.createWithId(1L, "a", "a", "a", Role.ADMIN);
+        String token = jwtTokenContainer.createJwtToken(member, LocalDateTime.now());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/reservations");
+        request.setCookies(new Cookie("token", token));
+        AuthClaims first = authContext.claims(request);
+        request.setCookies(new Cookie("token", "Asdasdasd"));
+        // when
+        AuthClaims second = authContext.claims(request);
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.memberId()).isEqualTo(1L);
+        assertThat(second.role()).isEqualTo(Role.ADMIN);
+    }
+}
@@ -0,0 +1,154 @@
+package roomescape.common.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.Cookie;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import roomescape.common.util.DateTime;
+import roomescape.common.util.JwtTokenContainer;
+import roomescape.common.util.TokenCookieManager;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.Role;
+import roomescape.member.service.FakeMemberRepository;
+
+@Tag("benchmark")
+class AuthVerificationBenchmarkTest {
+
+    private static final String SECRET_KEY = "benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmark";
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+    private static final int THREADS = 8;
+    private static final int TOKEN_COUNT = 1_000;
+
+    private final SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    private final TokenCookieManager tokenCookieManager = new TokenCookieManager();
+    private final JwtTokenContainer jwtTokenContainer = new JwtTokenContainer(SECRET_KEY);
+    private final AuthContext authContext = new AuthContext(tokenCookieManager, jwtTokenContainer);
+
+    @Test
+    @DisplayName("요청마다 토큰을 세 번 파싱하는 방식과 한 번 검증해 재사용하는 방식을 비교한다.")
+    void compare_verification_paths() {
+        // given
+        Member member = Member.createWithId(1L, "어드민", "admin@email.com", "password", Role.ADMIN);
+        String token = jwtTokenContainer.createJwtToken(member, LocalDateTime.now());
+        // when
+        double parseEachTimeNanos = measure(token, this::parseEachTime);
+        double verifyOnceNanos = measure(token, this::verifyOnce);
+        // then
+        System.out.printf("[auth] parse-each-time=%.0fns verify-once=%.0fns%n", parseEachTimeNanos,
+                verifyOnceNanos);
+        assertThat(verifyOnce(requestWith(token))).isEqualTo(parseEachTime(requestWith(token)));
+    }
+
+    @Test
+    @DisplayName("JWT 모드와 세션 모드의 인증 처리량을 비교한다.")
+    void compare_auth_modes() throws Exception {
+        // given
+        DateTime dateTime = new DateTime() {
+            @Override
+            public LocalDateTime now() {
+                return LocalDateTime.now();
+            }
+
+            @Override
+            public LocalDate nowDate() {
+                return LocalDate.now();
+            }
+        };
+        SessionTokenProvider sessionTokenProvider = new SessionTokenProvider(dateTime,
+                new FakeMemberRepository(new ArrayList<>()), SECRET_KEY, 30, 100_000, "");
+        List<String> jwtTokens = new ArrayList<>();
+        List<String> sessionIds = new ArrayList<>();
+        for (long id = 1; id <= TOKEN_COUNT; id++) {
+            Member member = Member.createWithId(id, "회원", "member@email.com", "password", Role.USER);
+            jwtTokens.add(jwtTokenContainer.createJwtToken(member, LocalDateTime.now()));
+            sessionIds.add(sessionTokenProvider.issue(member, LocalDateTime.now()));
+        }
+        // when
+        double jwtParseOps = throughput(token -> Jwts.parser().verifyWith(secretKey).build()
+                .parseSignedClaims(token).getPayload().getSubject().length(), jwtTokens);
+        double jwtOps = throughput(token -> jwtTokenContainer.verify(token).memberId().intValue(), jwtTokens);
+        double sessionOps = throughput(token -> sessionTokenProvider.verify(token).memberId().intValue(),
+                sessionIds);
+        // then
+        System.out.printf("[auth-mode] threads=%d jwt-parse=%,.0f ops/s jwt-cached=%,.0f ops/s session=%,.0f ops/s%n",
+                THREADS, jwtParseOps, jwtOps, sessionOps);
+        assertThat(jwtTokenContainer.verify(jwtTokens.get(0)).memberId())
+                .isEqualTo(sessionTokenProvider.verify(sessionIds.get(0)).memberId());
+    }
+
+    private double throughput(Function<String, Integer> verifier, List<String> tokens) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            verifier.apply(tokens.get(i % tokens.size()));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            long started = System.nanoTime();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    int checksum = 0;
+                    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                        checksum += verifier.apply(tokens.get((i + offset) % tokens.size()));
+                    }
+                    return checksum;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+            return (double) THREADS * MEASURED_ITERATIONS / seconds;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long parseEachTime(MockHttpServletRequest request) {
+        String token = tokenCookieManager.extractTokenFromCookie(request);
+        String role = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token)
+                .getPayload().get("role").toString();
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        String subject = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token)
+                .getPayload().getSubject();
+        return Role.findRole(role) == Role.ADMIN ? Long.parseLong(subject) : null;
+    }
+
+    private Long verifyOnce(MockHttpServletRequest request) {
+        Role role = authContext.claims(request).role();
+        Long memberId = authContext.claims(request).memberId();
+        return role == Role.ADMIN ? memberId : null;
+    }
+
+    private double measure(String token, Function<MockHttpServletRequest, Long> path) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            path.apply(requestWith(token));
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            path.apply(requestWith(token));
+        }
+        return (System.nanoTime() - started) / (double) MEASURED_ITERATIONS;
+    }
+
+    private MockHttpServletRequest requestWith(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/reservations");
+        request.setCookies(new Cookie("token", token));
+        return request;
+    }
+}
@@ -0,0 +1,182 @@
+package roomescape.common.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import roomescape.common.exception.LoginException;
+import roomescape.common.util.DateTime;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRepository;
+import roomescape.member.domain.Role;
+import roomescape.member.service.FakeMemberRepository;
+
+class SessionTokenProviderTest {
+
+    private static final String SECRET_KEY = "sessionsessionsessionsessionsessionsession";
+
+    private final Member member = Member.createWithId(1L, "a", "a", "a", Role.ADMIN);
+    private final List<Member> members = new ArrayList<>(List.of(member));
+    private final MemberRepository memberRepository = new FakeMemberRepository(members);
+    private LocalDateTime now = LocalDateTime.of(2025, 10, 5, 10, 0);
+    private final DateTime dateTime = new DateTime() {
+        @Override
+        public LocalDateTime now() {
+            return now;
+        }
+
+        @Override
+        public LocalDate nowDate() {
+            return now.toLocalDate();
+        }
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("세션을 사용할 때마다 만료 시각이 뒤로 밀린다.")
+    void sliding_expiry_test() {
+        // given
+        SessionTokenProvider provider = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100, "");
+        String sessionId = provider.issue(member, now);
+        // when
+        now = now.plusMinutes(20);
+        provider.verify(sessionId);
+        now = now.plusMinutes(20);
+        AuthClaims claims = provider.verify(sessionId);
+        // then
+        assertThat(claims.memberId()).isEqualTo(1L);
+        assertThat(claims.role()).isEqualTo(Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("사용하지 않은 채 만료 시간이 지나면 예외를 발생한다.")
+    void expired_session_exception() {
+        // given
+        SessionTokenProvider provider = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100, "");
+        String sessionId = provider.issue(member, now);
+        // when
+        now = now.plusMinutes(30);
+        // then
+        assertThatThrownBy(() -> provider.verify(sessionId))
+                .isInstanceOf(LoginException.class);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 세션은 더 이상 사용할 수 없다.")
+    void revoke_test() {
+        // given
+        SessionTokenProvider provider = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100, "");
+        String sessionId = provider.issue(member, now);
+        // when
+        provider.revoke(sessionId);
+        // then
+        assertThatThrownBy(() -> provider.verify(sessionId))
+                .isInstanceOf(LoginException.class);
+    }
+
+    @Test
+    @DisplayName("종료할 때 남긴 스냅샷으로 재시작 후에도 세션이 유지된다.")
+    void snapshot_restore_test() {
+        // given
+        String snapshotPath = tempDir.resolve("sessions.snapshot").toString();
+        SessionTokenProvider provider = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100,
+                snapshotPath);
+        String sessionId = provider.issue(member, now);
+        String expiredSessionId = provider.issue(member, now.minusMinutes(40));
+        provider.writeSnapshot();
+        // when
+        SessionTokenProvider restarted = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100,
+                snapshotPath);
+        restarted.restoreSnapshot();
+        // then
+        assertThat(restarted.verify(sessionId).memberId()).isEqualTo(1L);
+        assertThat(restarted.size()).isEqualTo(1);
+        assertThatThrownBy(() -> restarted.verify(expiredSessionId))
+                .isInstanceOf(LoginException.class);
+    }
+
+    @Test
+    @DisplayName("스냅샷에는 세션 아이디가 그대로 남지 않는다.")
+    void snapshot_hides_session_id_test() throws IOException {
+        // given
+        Path snapshotPath = tempDir.resolve("sessions.snapshot");
+        SessionTokenProvider provider = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100,
+                snapshotPath.toString());
+        String sessionId = provider.issue(member, now);
+        // when
+        provider.writeSnapshot();
+        // then
+        assertThat(Files.readString(snapshotPath)).doesNotContain(sessionId);
+    }
+
+    @Test
+    @DisplayName("형식이 깨지거나 서명이 맞지 않는 줄은 건너뛴다.")
+    void snapshot_skip_invalid_line_test() throws IOException {
+        // given
+        Path snapshotPath = tempDir.resolve("sessions.snapshot");
+        SessionTokenProvider provider = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100,
+                snapshotPath.toString());
+        String sessionId = provider.issue(member, now);
+        provider.writeSnapshot();
+        String line = Files.readString(snapshotPath).strip();
+        String[] parts = line.split("\t");
+        String forged = String.join("\t", "forged", parts[1], parts[2], parts[3]);
+        Files.writeString(snapshotPath, String.join(System.lineSeparator(), "broken", "a\tb\tc\td", forged, line),
+                StandardCharsets.UTF_8);
+        // when
+        SessionTokenProvider restarted = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100,
+                snapshotPath.toString());
+        restarted.restoreSnapshot();
+        // then
+        assertThat(restarted.size()).isEqualTo(1);
+        assertThat(restarted.verify(sessionId).memberId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("복원한 세션의 역할은 스냅샷이 아니라 회원 정보를 따른다.")
+    void snapshot_role_from_member_test() {
+        // given
+        String snapshotPath = tempDir.resolve("sessions.snapshot").toString();
+        SessionTokenProvider provider = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100,
+                snapshotPath);
+        String sessionId = provider.issue(member, now);
+        provider.writeSnapshot();
+        members.set(0, Member.createWithId(1L, "a", "a", "a", Role.USER));
+        // when
+        SessionTokenProvider restarted = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100,
+                snapshotPath);
+        restarted.restoreSnapshot();
+        // then
+        assertThat(restarted.verify(sessionId).role()).isEqualTo(Role.USER);
+    }
+
+    @Test
+    @DisplayName("탈퇴해 회원 정보가 없는 세션은 복원하지 않는다.")
+    void snapshot_skip_missing_member_test() {
+        // given
+        String snapshotPath = tempDir.resolve("sessions.snapshot").toString();
+        SessionTokenProvider provider = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100,
+                snapshotPath);
+        provider.issue(member, now);
+        provider.writeSnapshot();
+        members.clear();
+        // when
+        SessionTokenProvider restarted = new SessionTokenProvider(dateTime, memberRepository, SECRET_KEY, 30, 100,
+                snapshotPath);
+        restarted.restoreSnapshot();
+        // then
+        assertThat(restarted.size()).isZero();
+    }
+}
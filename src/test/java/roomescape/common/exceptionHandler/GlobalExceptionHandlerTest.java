@@ -7,12 +7,14 @@ import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanInstantiationException;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
+import roomescape.common.exception.ServiceUnavailableException;
 import roomescape.common.exceptionHandler.dto.ExceptionResponse;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -98,6 +100,42 @@ class GlobalExceptionHandlerTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("IllegalArgumentException 감싼 BeanInstantiationException 처리 테스트")
+    void IllegalArgumentException_and_BeanInstantiationException_Handler_Test() {
+        // given
+        ExceptionResponse expected = new ExceptionResponse("[ERROR] 요청 객체 생성 예외 테스트",
+                "/beanInstantiationException");
+        // when
+        Response response = RestAssured.given().log().all()
+                .when().get("/beanInstantiationException")
+                .then().log().all()
+                .statusCode(400)
+                .extract()
+                .response();
+        // then
+        ExceptionResponse actual = response.as(ExceptionResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("ServiceUnavailableException 처리 테스트")
+    void ServiceUnavailableException_Handler_Test() {
+        // given
+        ExceptionResponse expected = new ExceptionResponse("[ERROR] ServiceUnavailableException 예외 테스트",
+                "/serviceUnavailableException");
+        // when
+        Response response = RestAssured.given().log().all()
+                .when().get("/serviceUnavailableException")
+                .then().log().all()
+                .statusCode(503)
+                .extract()
+                .response();
+        // then
+        ExceptionResponse actual = response.as(ExceptionResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
+
     @Test
     @DisplayName("예상치 못한 오류 처리 테스트")
     void Exception_Handler_Test() {
@@ -144,6 +182,17 @@ class GlobalExceptionHandlerTest {
                 }
             }
 
+            @GetMapping("/beanInstantiationException")
+            public void beanInstantiationException() {
+                throw new BeanInstantiationException(Object.class, "요청 객체 생성 실패",
+                        new IllegalArgumentException("요청 객체 생성 예외 테스트"));
+            }
+
+            @GetMapping("/serviceUnavailableException")
+            public void serviceUnavailableException() {
+                throw new ServiceUnavailableException("ServiceUnavailableException 예외 테스트");
+            }
+
             @GetMapping("/unknown")
             public void unknownException() {
                 throw new IllegalStateException("예상치 못한 오류");
@@ -0,0 +1,154 @@
+package roomescape.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.common.exception.TooManyRequestsException;
+import roomescape.common.util.DateTime;
+
+class IdempotencyStoreTest {
+
+    private LocalDateTime now = LocalDateTime.of(2025, 10, 5, 10, 0);
+
+    private DateTime dateTime = new DateTime() {
+        @Override
+        public LocalDateTime now() {
+            return now;
+        }
+
+        @Override
+        public LocalDate nowDate() {
+            return now.toLocalDate();
+        }
+    };
+
+    private IdempotencyStore idempotencyStore = new IdempotencyStore(dateTime, 64, 60);
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 처음 결과를 재사용한다.")
+    void replay_test() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        // when
+        String first = idempotencyStore.execute("scope", "key", "request", () -> "result" + calls.incrementAndGet());
+        String second = idempotencyStore.execute("scope", "key", "request", () -> "result" + calls.incrementAndGet());
+        // then
+        assertThat(first).isEqualTo("result1");
+        assertThat(second).isEqualTo("result1");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("키가 없으면 매번 실행한다.")
+    void no_key_test() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        // when
+        idempotencyStore.execute("scope", null, "request", calls::incrementAndGet);
+        idempotencyStore.execute("scope", null, "request", calls::incrementAndGet);
+        // then
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 예외가 발생한다.")
+    void different_request_test() {
+        // given
+        idempotencyStore.execute("scope", "key", "request", () -> "result");
+        // when & then
+        assertThatThrownBy(() -> idempotencyStore.execute("scope", "key", "other", () -> "result"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 기록하지 않아 다시 시도할 수 있다.")
+    void failure_is_not_remembered_test() {
+        // given
+        assertThatThrownBy(() -> idempotencyStore.execute("scope", "key", "request", () -> {
+            throw new IllegalArgumentException("실패");
+        })).isInstanceOf(IllegalArgumentException.class);
+        // when
+        String result = idempotencyStore.execute("scope", "key", "request", () -> "result");
+        // then
+        assertThat(result).isEqualTo("result");
+    }
+
+    @Test
+    @DisplayName("만료된 키는 다시 실행한다.")
+    void expired_test() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        idempotencyStore.execute("scope", "key", "request", calls::incrementAndGet);
+        // when
+        now = now.plusSeconds(60);
+        idempotencyStore.execute("scope", "key", "request", calls::incrementAndGet);
+        // then
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 요청은 첫 요청의 결과를 기다린다.")
+    void concurrent_duplicates_test() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(
+                () -> idempotencyStore.execute("scope", "key", "request", () -> {
+                    running.countDown();
+                    await(release);
+                    return calls.incrementAndGet();
+                }), executorService);
+        running.await();
+        // when
+        CompletableFuture<Integer> duplicated = CompletableFuture.supplyAsync(
+                () -> idempotencyStore.execute("scope", "key", "request", calls::incrementAndGet), executorService);
+        release.countDown();
+        // then
+        assertThat(first.join()).isEqualTo(1);
+        assertThat(duplicated.join()).isEqualTo(1);
+        assertThat(calls).hasValue(1);
+        executorService.shutdown();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청으로 가득 찬 구간에는 새 키를 받지 않는다.")
+    void in_flight_full_test() {
+        // given
+        IdempotencyStore smallStore = new IdempotencyStore(dateTime, 16, 60);
+        String otherKey = sameStripeKey("key");
+        // when & then
+        assertThatThrownBy(() -> smallStore.execute("scope", "key", "request",
+                () -> smallStore.execute("scope", otherKey, "request", () -> "result")))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    private String sameStripeKey(String key) {
+        int stripe = Math.floorMod(("scope:" + key).hashCode(), 16);
+        for (int i = 0; ; i++) {
+            String candidate = key + i;
+            if (Math.floorMod(("scope:" + candidate).hashCode(), 16) == stripe) {
+                return candidate;
+            }
+        }
+    }
+}
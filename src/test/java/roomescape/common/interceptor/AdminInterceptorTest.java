@@ -14,6 +14,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import roomescape.admin.presentation.AdminPageController;
+import roomescape.common.auth.AuthContext;
 import roomescape.common.util.JwtTokenContainer;
 import roomescape.common.util.TokenCookieManager;
 import roomescape.member.domain.Member;
@@ -22,7 +23,7 @@ import roomescape.member.service.LoginService;
 import roomescape.reservation.presentation.ReservationPageController;
 
 @WebMvcTest({AdminPageController.class, ReservationPageController.class})
-@Import({TokenCookieManager.class, JwtTokenContainer.class})
+@Import({TokenCookieManager.class, JwtTokenContainer.class, AuthContext.class})
 class AdminInterceptorTest {
 
     @Autowired
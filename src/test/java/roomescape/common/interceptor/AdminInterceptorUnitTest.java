@@ -16,29 +16,46 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.method.HandlerMethod;
 import roomescape.admin.dto.AdminReservationRequest;
 import roomescape.admin.presentation.AdminController;
+import roomescape.common.auth.AuthContext;
+import roomescape.common.idempotency.IdempotencyStore;
 import roomescape.common.util.JwtTokenContainer;
 import roomescape.common.util.TokenCookieManager;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.Role;
+import roomescape.reservation.service.ReservationExportService;
 import roomescape.reservation.service.ReservationService;
+import roomescape.theme.service.ThemeService;
 
 @ExtendWith(MockitoExtension.class)
 class AdminInterceptorUnitTest {
 
     private TokenCookieManager tokenCookieManager = new TokenCookieManager();
     private JwtTokenContainer jwtTokenContainer = new JwtTokenContainer("sdfsdafsadfsadfsdafsadfsafsadfsldajfsdajf");
-    private AdminInterceptor adminInterceptor = new AdminInterceptor(tokenCookieManager, jwtTokenContainer);
+    private AdminInterceptor adminInterceptor = new AdminInterceptor(
+            new AuthContext(tokenCookieManager, jwtTokenContainer));
 
     @Mock
     private ReservationService reservationService;
 
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private ThemeService themeService;
+
+    @Mock
+    private ReservationExportService reservationExportService;
+
     @Test
     @DisplayName("로그인이 안된 경우에는 login 페이지로 리다이렉트가 된다.")
     void preHandle_when_no_login() throws Exception {
         // given
         MockHttpServletRequest request = new MockHttpServletRequest("POST", "/admin/reservations");
-        Method method = AdminController.class.getMethod("createReservation", AdminReservationRequest.class);
-        HandlerMethod handlerMethod = new HandlerMethod(new AdminController(reservationService), method);
+        Method method = AdminController.class.getMethod("createReservation", AdminReservationRequest.class,
+                String.class);
+        HandlerMethod handlerMethod = new HandlerMethod(
+                new AdminController(reservationService, idempotencyStore, themeService, reservationExportService),
+                method);
         MockHttpServletResponse response = new MockHttpServletResponse();
         // when
         boolean check = adminInterceptor.preHandle(request, response, handlerMethod);
@@ -52,8 +69,11 @@ class AdminInterceptorUnitTest {
     void preHandler_when_invalid_token() throws Exception {
         // given
         MockHttpServletRequest request = new MockHttpServletRequest("POST", "/admin/reservations");
-        Method method = AdminController.class.getMethod("createReservation", AdminReservationRequest.class);
-        HandlerMethod handlerMethod = new HandlerMethod(new AdminController(reservationService), method);
+        Method method = AdminController.class.getMethod("createReservation", AdminReservationRequest.class,
+                String.class);
+        HandlerMethod handlerMethod = new HandlerMethod(
+                new AdminController(reservationService, idempotencyStore, themeService, reservationExportService),
+                method);
         MockHttpServletResponse response = new MockHttpServletResponse();
         String strangeToken = "Asdasdasd";
         putCookieToRequest(strangeToken, request);
@@ -69,8 +89,11 @@ class AdminInterceptorUnitTest {
     void preHandler_when_expired_token() throws Exception {
         // given
         MockHttpServletRequest request = new MockHttpServletRequest("POST", "/admin/reservations");
-        Method method = AdminController.class.getMethod("createReservation", AdminReservationRequest.class);
-        HandlerMethod handlerMethod = new HandlerMethod(new AdminController(reservationService), method);
+        Method method = AdminController.class.getMethod("createReservation", AdminReservationRequest.class,
+                String.class);
+        HandlerMethod handlerMethod = new HandlerMethod(
+                new AdminController(reservationService, idempotencyStore, themeService, reservationExportService),
+                method);
         MockHttpServletResponse response = new MockHttpServletResponse();
         Member member = Member.createWithId(1L, "a", "a", "a", Role.ADMIN);
         String jwtToken = jwtTokenContainer.createJwtToken(member, LocalDateTime.of(2000, 11, 2, 12, 34));
@@ -87,8 +110,11 @@ class AdminInterceptorUnitTest {
     void preHandler_when_not_admin() throws Exception {
         // given
         MockHttpServletRequest request = new MockHttpServletRequest("POST", "/admin/reservations");
-        Method method = AdminController.class.getMethod("createReservation", AdminReservationRequest.class);
-        HandlerMethod handlerMethod = new HandlerMethod(new AdminController(reservationService), method);
+        Method method = AdminController.class.getMethod("createReservation", AdminReservationRequest.class,
+                String.class);
+        HandlerMethod handlerMethod = new HandlerMethod(
+                new AdminController(reservationService, idempotencyStore, themeService, reservationExportService),
+                method);
         MockHttpServletResponse response = new MockHttpServletResponse();
         Member member = Member.createWithId(1L, "a", "a", "a", Role.USER);
         String jwtToken = jwtTokenContainer.createJwtToken(member, LocalDateTime.now());
@@ -105,8 +131,11 @@ class AdminInterceptorUnitTest {
     void preHandler_when_admin() throws Exception {
         // given
         MockHttpServletRequest request = new MockHttpServletRequest("POST", "/admin/reservations");
-        Method method = AdminController.class.getMethod("createReservation", AdminReservationRequest.class);
-        HandlerMethod handlerMethod = new HandlerMethod(new AdminController(reservationService), method);
+        Method method = AdminController.class.getMethod("createReservation", AdminReservationRequest.class,
+                String.class);
+        HandlerMethod handlerMethod = new HandlerMethod(
+                new AdminController(reservationService, idempotencyStore, themeService, reservationExportService),
+                method);
         MockHttpServletResponse response = new MockHttpServletResponse();
         Member member = Member.createWithId(1L, "a", "a", "a", Role.ADMIN);
         String jwtToken = jwtTokenContainer.createJwtToken(member, LocalDateTime.now());
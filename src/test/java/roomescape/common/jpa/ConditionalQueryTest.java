@@ -0,0 +1,56 @@
+package roomescape.common.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConditionalQueryTest {
+
+    private final ConditionalQuery query = ConditionalQuery.of("SELECT r FROM Reservation r",
+            List.of("r.theme.id = :themeId", "r.date >= :from"), " ORDER BY r.id");
+
+    @Test
+    @DisplayName("값이 있는 조건만 포함한 미리 만든 쿼리를 고른다.")
+    void query_for_test() {
+        // when
+        String none = query.queryFor(null, null);
+        String themeOnly = query.queryFor(1L, null);
+        String both = query.queryFor(1L, LocalDate.of(2025, 10, 6));
+        // then
+        assertThat(none).isEqualTo("SELECT r FROM Reservation r WHERE 1=1 ORDER BY r.id");
+        assertThat(themeOnly).isEqualTo("SELECT r FROM Reservation r WHERE 1=1 AND r.theme.id = :themeId"
+                + " ORDER BY r.id");
+        assertThat(both).isEqualTo("SELECT r FROM Reservation r WHERE 1=1 AND r.theme.id = :themeId"
+                + " AND r.date >= :from ORDER BY r.id");
+    }
+
+    @Test
+    @DisplayName("같은 조건 조합에는 같은 쿼리 문자열을 돌려준다.")
+    void same_instance_test() {
+        // when
+        String first = query.queryFor(1L, null);
+        String second = query.queryFor(2L, null);
+        // then
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("조건 값의 개수가 다르면 예외가 발생한다.")
+    void value_count_mismatch_test() {
+        // when & then
+        assertThatThrownBy(() -> query.queryFor(1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("파라미터가 없는 조건은 만들 수 없다.")
+    void condition_without_parameter_test() {
+        // when & then
+        assertThatThrownBy(() -> ConditionalQuery.of("SELECT r FROM Reservation r", List.of("r.id > 0"), ""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,40 @@
+package roomescape.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import roomescape.member.dto.request.LoginMember;
+import roomescape.member.service.PrincipalCache;
+
+@SpringBootTest
+@DirtiesContext
+class CacheMetricsTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Test
+    @DisplayName("2차 캐시 영역과 인증 정보 캐시의 수치를 메트릭으로 노출한다.")
+    void bind_cache_regions_test() {
+        // given
+        principalCache.get(1L, () -> new LoginMember(1L, "코기"));
+        // when
+        principalCache.get(1L, () -> new LoginMember(1L, "코기"));
+        // then
+        assertThat(meterRegistry.get(CacheMetrics.GETS_METRIC).tags("region", "principal", "result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CacheMetrics.GETS_METRIC).tags("region", "principal", "result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CacheMetrics.SIZE_METRIC).tag("region", "principal")
+                .gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.find(CacheMetrics.SIZE_METRIC).tag("region", "member").gauge()).isNotNull();
+    }
+}
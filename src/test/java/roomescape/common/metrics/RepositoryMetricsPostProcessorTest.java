@@ -0,0 +1,112 @@
+package roomescape.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRepository;
+import roomescape.member.domain.Role;
+import roomescape.member.service.FakeMemberRepository;
+
+class RepositoryMetricsPostProcessorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RepositoryMetricsPostProcessor postProcessor = new RepositoryMetricsPostProcessor(
+            new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry))
+                    .getBeanProvider(MeterRegistry.class));
+
+    @Test
+    @DisplayName("저장소 포트 메서드를 호출하면 호출 시간과 반환 행 수를 기록한다.")
+    void record_calls_and_rows_test() {
+        // given
+        MemberRepository repository = (MemberRepository) postProcessor.postProcessAfterInitialization(
+                new FakeMemberRepository(new ArrayList<>()), "memberRepository");
+        repository.save(Member.createWithoutId("a", "a@email.com", "a", Role.USER));
+        repository.save(Member.createWithoutId("b", "b@email.com", "b", Role.USER));
+        // when
+        repository.findAll();
+        // then
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.CALLS_METRIC)
+                .tags("repository", "MemberRepository", "method", "save", "outcome", "success")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.ROWS_METRIC)
+                .tags("repository", "MemberRepository", "method", "findAll")
+                .summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예외가 발생한 호출은 실패로 기록하고 예외를 그대로 던진다.")
+    void record_error_test() {
+        // given
+        MemberRepository repository = (MemberRepository) postProcessor.postProcessAfterInitialization(
+                new FakeMemberRepository(new ArrayList<>()), "memberRepository");
+        // when & then
+        assertThatThrownBy(() -> repository.save(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.CALLS_METRIC)
+                .tags("repository", "MemberRepository", "method", "save", "outcome", "error")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 적 없는 메서드에는 실패 타이머를 만들지 않는다.")
+    void lazy_error_timer_test() {
+        // given
+        MemberRepository repository = (MemberRepository) postProcessor.postProcessAfterInitialization(
+                new FakeMemberRepository(new ArrayList<>()), "memberRepository");
+        // when
+        repository.findAll();
+        // then
+        assertThat(meterRegistry.find(RepositoryMetricsInterceptor.CALLS_METRIC)
+                .tags("repository", "MemberRepository", "outcome", "error")
+                .timers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반환 행 수 히스토그램은 정해진 상한까지만 구간을 나눈다.")
+    void bounded_rows_histogram_test() {
+        // given
+        List<DistributionStatisticConfig> configs = new ArrayList<>();
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().equals(RepositoryMetricsInterceptor.ROWS_METRIC)) {
+                    configs.add(config);
+                }
+                return config;
+            }
+        });
+        MemberRepository repository = (MemberRepository) postProcessor.postProcessAfterInitialization(
+                new FakeMemberRepository(new ArrayList<>()), "memberRepository");
+        // when
+        repository.findAll();
+        // then
+        assertThat(configs).singleElement().satisfies(config -> {
+            assertThat(config.isPercentileHistogram()).isTrue();
+            assertThat(config.getMinimumExpectedValueAsDouble()).isEqualTo(1.0);
+            assertThat(config.getMaximumExpectedValueAsDouble()).isEqualTo(10_000);
+        });
+    }
+
+    @Test
+    @DisplayName("저장소 포트가 아닌 빈은 감싸지 않는다.")
+    void skip_non_port_bean_test() {
+        // given
+        Object bean = new Object();
+        // when
+        Object processed = postProcessor.postProcessAfterInitialization(bean, "bean");
+        // then
+        assertThat(processed).isSameAs(bean);
+    }
+}
@@ -0,0 +1,70 @@
+package roomescape.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("용량만큼 사용하면 더 이상 토큰을 꺼낼 수 없다.")
+    void exhausted_test() {
+        // given
+        TokenBucket tokenBucket = new TokenBucket(3, 0.001, 0);
+        // when
+        for (int i = 0; i < 3; i++) {
+            tokenBucket.tryConsume(0);
+        }
+        // then
+        assertThat(tokenBucket.tryConsume(0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 용량을 넘지 않는 선에서 토큰이 다시 채워진다.")
+    void refill_test() {
+        // given
+        TokenBucket tokenBucket = new TokenBucket(2, 0.001, 0);
+        tokenBucket.tryConsume(0);
+        tokenBucket.tryConsume(0);
+        // when
+        boolean refilled = tokenBucket.tryConsume(1_000);
+        // then
+        assertThat(refilled).isTrue();
+        assertThat(tokenBucket.tryConsume(1_000)).isFalse();
+        assertThat(tokenBucket.isFullAt(1_000_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 꺼내도 용량만큼만 성공한다.")
+    void concurrent_consume_test() throws Exception {
+        // given
+        TokenBucket tokenBucket = new TokenBucket(100, 0.000_001, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> futures = new ArrayList<>();
+        // when
+        for (int thread = 0; thread < 8; thread++) {
+            futures.add(executor.submit(() -> {
+                int consumed = 0;
+                for (int i = 0; i < 50; i++) {
+                    if (tokenBucket.tryConsume(0)) {
+                        consumed++;
+                    }
+                }
+                return consumed;
+            }));
+        }
+        int consumed = 0;
+        for (Future<Integer> future : futures) {
+            consumed += future.get();
+        }
+        executor.shutdown();
+        // then
+        assertThat(consumed).isEqualTo(100);
+    }
+}
@@ -0,0 +1,44 @@
+package roomescape.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단한다.")
+    void no_false_negative_test() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            bloomFilter.put("member" + i + "@email.com");
+        }
+        // then
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(bloomFilter.mightContain("member" + i + "@email.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 개수만큼 추가했을 때 오탐률이 설정값 근처에 머문다.")
+    void false_positive_rate_test() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("member" + i + "@email.com");
+        }
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (bloomFilter.mightContain("guest" + i + "@email.com")) {
+                falsePositives++;
+            }
+        }
+        // then
+        assertThat(falsePositives / 10_000.0).isLessThan(0.02);
+        assertThat(bloomFilter.expectedFalsePositiveRate()).isLessThan(0.011);
+    }
+}
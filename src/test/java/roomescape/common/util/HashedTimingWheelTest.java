@@ -0,0 +1,67 @@
+package roomescape.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.common.util.HashedTimingWheel.Timeout;
+
+class HashedTimingWheelTest {
+
+    private final List<String> expired = new ArrayList<>();
+    private final HashedTimingWheel<String> timingWheel = new HashedTimingWheel<>(100, 8, 0, expired::add);
+
+    @Test
+    @DisplayName("만료 시간이 지난 항목만 만료시킨다.")
+    void expire_test() {
+        // given
+        timingWheel.schedule("first", 300);
+        timingWheel.schedule("second", 700);
+        // when
+        timingWheel.advanceTo(500);
+        // then
+        assertThat(expired).containsExactly("first");
+    }
+
+    @Test
+    @DisplayName("바퀴 한 바퀴보다 먼 만료 시간도 정확히 처리한다.")
+    void expire_after_rounds_test() {
+        // given
+        timingWheel.schedule("far", 2_050);
+        // when
+        timingWheel.advanceTo(1_000);
+        List<String> beforeDeadline = List.copyOf(expired);
+        timingWheel.advanceTo(2_100);
+        // then
+        assertThat(beforeDeadline).isEmpty();
+        assertThat(expired).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 만료되지 않는다.")
+    void cancel_test() {
+        // given
+        Timeout<String> timeout = timingWheel.schedule("cancelled", 300);
+        // when
+        boolean cancelled = timeout.cancel();
+        timingWheel.advanceTo(1_000);
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(expired).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 항목은 취소할 수 없다.")
+    void cancel_after_expire_test() {
+        // given
+        Timeout<String> timeout = timingWheel.schedule("expired", 300);
+        timingWheel.advanceTo(1_000);
+        // when
+        boolean cancelled = timeout.cancel();
+        // then
+        assertThat(cancelled).isFalse();
+        assertThat(expired).containsExactly("expired");
+    }
+}
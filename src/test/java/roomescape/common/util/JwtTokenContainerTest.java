@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import roomescape.common.auth.AuthClaims;
 import roomescape.common.exception.LoginException;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.Role;
@@ -106,4 +107,18 @@ class JwtTokenContainerTest {
         assertThatThrownBy(() -> jwtTokenContainer.getMemberRole(strangeToken))
                 .isInstanceOf(LoginException.class);
     }
+
+    @Test
+    @DisplayName("이미 검증한 토큰은 다시 파싱하지 않고 같은 클레임을 반환한다.")
+    void verify_cached_test() {
+        // given
+        Member member = Member.createWithId(1L, "a", "a", "a", Role.ADMIN);
+        String jwtToken = jwtTokenContainer.createJwtToken(member, LocalDateTime.now());
+        AuthClaims first = jwtTokenContainer.verify(jwtToken);
+        // when
+        AuthClaims second = jwtTokenContainer.verify(jwtToken);
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second).extracting(AuthClaims::memberId, AuthClaims::role).containsExactly(1L, Role.ADMIN);
+    }
 }
@@ -1,6 +1,7 @@
 package roomescape.member.infrastructure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
@@ -11,6 +12,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.Role;
 import roomescape.member.infrastructure.jpa.JpaMemberRepository;
@@ -89,4 +91,26 @@ public class JpaMemberRepositoryTest {
         // then
         assertThat(members).hasSize(2);
     }
+
+    @Test
+    @DisplayName("같은 이메일로 두 번 저장할 수 없다.")
+    void unique_email_test() {
+        // given
+        repository.saveAndFlush(Member.createWithoutId("a", "a@email.com", "a", Role.USER));
+        // when & then
+        assertThatThrownBy(() -> repository.saveAndFlush(Member.createWithoutId("b", "a@email.com", "b", Role.USER)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("가입된 모든 이메일만 조회한다.")
+    void findAllEmails_test() {
+        // given
+        repository.save(Member.createWithoutId("a", "a@email.com", "a", Role.USER));
+        repository.save(Member.createWithoutId("b", "b@email.com", "b", Role.USER));
+        // when
+        List<String> emails = repository.findAllEmails();
+        // then
+        assertThat(emails).containsExactlyInAnyOrder("a@email.com", "b@email.com");
+    }
 }
@@ -0,0 +1,60 @@
+package roomescape.member.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.Role;
+import roomescape.member.infrastructure.jpa.JpaMemberRepository;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.javax.cache.provider="
+                + "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberSecondLevelCacheTest {
+
+    @Autowired
+    private JpaMemberRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void afterEach() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("아이디로 회원을 다시 조회하면 DB 대신 2차 캐시에서 읽는다.")
+    void find_by_id_hits_second_level_cache() {
+        // given
+        Member save = repository.save(Member.createWithoutId("a", "a@email.com", "a", Role.USER));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        // when
+        repository.findById(save.getId());
+        repository.findById(save.getId());
+        // then
+        CacheRegionStatistics member = statistics.getDomainDataRegionStatistics("member");
+        assertAll(
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(1),
+                () -> assertThat(member.getMissCount()).isEqualTo(1),
+                () -> assertThat(member.getHitCount()).isEqualTo(1)
+        );
+    }
+}
@@ -1,12 +1,14 @@
 package roomescape.member.service;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.MemberRepository;
+import roomescape.member.domain.MemberView;
 
 public class FakeMemberRepository implements MemberRepository {
 
@@ -39,6 +41,13 @@ public class FakeMemberRepository implements MemberRepository {
                 .anyMatch(member -> member.getEmail().equals(email));
     }
 
+    @Override
+    public List<String> findAllEmails() {
+        return members.stream()
+                .map(Member::getEmail)
+                .toList();
+    }
+
     @Override
     public Optional<Member> findByEmailAndPassword(String email, String password) {
         return members.stream()
@@ -50,4 +59,14 @@ public class FakeMemberRepository implements MemberRepository {
     public List<Member> findAll() {
         return Collections.unmodifiableList(members);
     }
+
+    @Override
+    public List<MemberView> findPage(Long afterId, int size) {
+        return members.stream()
+                .filter(member -> member.getId() > afterId)
+                .sorted(Comparator.comparing(Member::getId))
+                .limit(size)
+                .map(member -> new MemberView(member.getId(), member.getName()))
+                .toList();
+    }
 }
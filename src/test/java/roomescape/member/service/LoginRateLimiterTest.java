@@ -0,0 +1,153 @@
+package roomescape.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.common.exception.TooManyRequestsException;
+import roomescape.common.util.DateTime;
+
+class LoginRateLimiterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private LocalDateTime now = LocalDateTime.of(2025, 10, 5, 10, 0);
+    private final DateTime dateTime = new DateTime() {
+        @Override
+        public LocalDateTime now() {
+            return now;
+        }
+
+        @Override
+        public LocalDate nowDate() {
+            return now.toLocalDate();
+        }
+    };
+
+    @Test
+    @DisplayName("같은 이메일로 허용량을 넘겨 시도하면 예외를 발생한다.")
+    void email_throttled_test() {
+        // given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(dateTime, 2, 2, 100, 100, 100);
+        loginRateLimiter.bindTo(registry);
+        loginRateLimiter.acquire("a@com", "10.0.0.1");
+        loginRateLimiter.acquire("A@com ", "10.0.0.2");
+        // when & then
+        assertThatThrownBy(() -> loginRateLimiter.acquire("a@com", "10.0.0.3"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("같은 주소에서 허용량을 넘겨 시도하면 예외를 발생한다.")
+    void address_throttled_test() {
+        // given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(dateTime, 100, 100, 2, 2, 100);
+        loginRateLimiter.bindTo(registry);
+        loginRateLimiter.acquire("a@com", "10.0.0.1");
+        loginRateLimiter.acquire("b@com", "10.0.0.1");
+        // when & then
+        assertThatThrownBy(() -> loginRateLimiter.acquire("c@com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(attempts("allowed")).isEqualTo(2);
+        assertThat(attempts("address_throttled")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 다시 시도할 수 있다.")
+    void refill_test() {
+        // given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(dateTime, 1, 1, 100, 100, 100);
+        loginRateLimiter.bindTo(registry);
+        loginRateLimiter.acquire("a@com", "10.0.0.1");
+        // when
+        now = now.plusMinutes(2);
+        // then
+        loginRateLimiter.acquire("a@com", "10.0.0.1");
+        assertThat(attempts("allowed")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버킷 수가 상한에 닿으면 다 채워진 버킷만 비운다.")
+    void evict_idle_bucket_test() {
+        // given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(dateTime, 5, 5, 100, 100, 2);
+        loginRateLimiter.bindTo(registry);
+        loginRateLimiter.acquire("a@com", "10.0.0.1");
+        now = now.plusMinutes(1);
+        loginRateLimiter.acquire("b@com", "10.0.0.1");
+        // when
+        loginRateLimiter.acquire("c@com", "10.0.0.1");
+        // then
+        assertThat(emailBucketCount()).isEqualTo(2);
+        assertThat(count(LoginRateLimiter.EVICTED_METRIC)).isEqualTo(1);
+        assertThat(count(LoginRateLimiter.SHARED_METRIC)).isZero();
+    }
+
+    @Test
+    @DisplayName("비울 수 있는 버킷이 없으면 새 키는 공유 버킷으로 제한하고 기존 버킷은 유지한다.")
+    void shared_bucket_when_no_idle_bucket_test() {
+        // given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(dateTime, 1, 1, 100, 100, 1);
+        loginRateLimiter.bindTo(registry);
+        loginRateLimiter.acquire("a@com", "10.0.0.1");
+        loginRateLimiter.acquire("b@com", "10.0.0.1");
+        // when & then
+        assertThatThrownBy(() -> loginRateLimiter.acquire("b@com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatThrownBy(() -> loginRateLimiter.acquire("a@com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(emailBucketCount()).isEqualTo(1);
+        assertThat(count(LoginRateLimiter.EVICTED_METRIC)).isZero();
+        assertThat(count(LoginRateLimiter.SHARED_METRIC)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버킷이 가득 찬 동안 처음 들어온 키들은 하나의 버킷에 몰리지 않는다.")
+    void overflow_keys_are_spread_test() {
+        // given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(dateTime, 1, 1, 1_000, 1_000, 1);
+        loginRateLimiter.bindTo(registry);
+        loginRateLimiter.acquire("flood@com", "10.0.0.1");
+        // when
+        for (int i = 0; i < 100; i++) {
+            try {
+                loginRateLimiter.acquire("member" + i + "@com", "10.0.0.1");
+            } catch (TooManyRequestsException ignored) {
+            }
+        }
+        // then
+        assertThat(attempts("allowed")).isGreaterThan(2);
+        assertThat(emailBucketCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이메일로 막힌 시도는 따로 센다.")
+    void email_throttled_metric_test() {
+        // given
+        LoginRateLimiter loginRateLimiter = new LoginRateLimiter(dateTime, 1, 1, 100, 100, 100);
+        loginRateLimiter.bindTo(registry);
+        loginRateLimiter.acquire("a@com", "10.0.0.1");
+        // when & then
+        assertThatThrownBy(() -> loginRateLimiter.acquire("a@com", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(attempts("allowed")).isEqualTo(1);
+        assertThat(attempts("email_throttled")).isEqualTo(1);
+        assertThat(emailBucketCount()).isEqualTo(1);
+    }
+
+    private double attempts(String outcome) {
+        return registry.get(LoginRateLimiter.ATTEMPTS_METRIC).tag("outcome", outcome).functionCounter().count();
+    }
+
+    private double count(String metric) {
+        return registry.get(metric).functionCounter().count();
+    }
+
+    private double emailBucketCount() {
+        return registry.get(LoginRateLimiter.BUCKETS_METRIC).tag("key", "email").gauge().value();
+    }
+}
@@ -21,15 +21,20 @@ import roomescape.member.dto.request.LoginRequest;
 class LoginServiceTest {
 
     private MemberRepository memberRepository = new FakeMemberRepository(new ArrayList<>());
+    private PrincipalCache principalCache = new PrincipalCache(new SystemDateTime(), 300, 100);
+    private MemberEmailIndex memberEmailIndex = new MemberEmailIndex(memberRepository, 100, 0.01);
     private LoginService loginService = new LoginService(
             new JwtTokenContainer("sadasdsasdfasdfasdfsaddsadsadsadadsaasdasdasd"),
             memberRepository,
-            new SystemDateTime());
+            new SystemDateTime(),
+            principalCache,
+            memberEmailIndex);
 
     @BeforeEach
     void beforeEach() {
         Member member = Member.createWithoutId("코기", "a@com", "a", Role.USER);
         memberRepository.save(member);
+        memberEmailIndex.rebuild();
     }
 
     @ParameterizedTest
@@ -76,4 +81,27 @@ class LoginServiceTest {
         assertThat(loginMember).isEqualTo(new LoginMember(1L, "코기"));
     }
 
+    @Test
+    @DisplayName("캐시에 담긴 회원은 저장소를 거치지 않고 인증 정보를 돌려준다.")
+    void loginCheck_cache_test() {
+        // given
+        String token = loginService.loginAndReturnToken(new LoginRequest("a@com", "a"));
+        // when
+        LoginMember loginMember = loginService.loginCheck(token);
+        // then
+        assertThat(loginMember).isEqualTo(new LoginMember(1L, "코기"));
+        assertThat(principalCache.getMissCount()).isZero();
+        assertThat(principalCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가입되지 않은 이메일은 저장소를 조회하지 않고 거절한다.")
+    void loginAndReturnToken_unknown_email_test() {
+        // given
+        LoginRequest request = new LoginRequest("unknown@com", "a");
+        // when & then
+        assertThatThrownBy(() -> loginService.loginAndReturnToken(request))
+                .isInstanceOf(LoginException.class);
+        assertThat(memberEmailIndex.getDefiniteMissCount()).isEqualTo(1);
+    }
 }
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import roomescape.common.pagination.CursorRequest;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.MemberRepository;
 import roomescape.member.domain.Role;
@@ -17,7 +18,8 @@ import roomescape.member.dto.response.SignupResponse;
 class MemberServiceTest {
 
     private MemberRepository memberRepository = new FakeMemberRepository(new ArrayList<>());
-    private MemberService memberService = new MemberService(memberRepository);
+    private MemberEmailIndex memberEmailIndex = new MemberEmailIndex(memberRepository, 100, 0.01);
+    private MemberService memberService = new MemberService(memberRepository, memberEmailIndex);
 
     @Test
     @DisplayName("이미 가입된 이메일에 대한 예외 테스트")
@@ -53,8 +55,22 @@ class MemberServiceTest {
         memberRepository.save(member1);
         memberRepository.save(member2);
         // when
-        List<MemberResponse> allMember = memberService.findAllMember();
+        List<MemberResponse> allMember = memberService.findAllMember(CursorRequest.first()).items();
         // then
         assertThat(allMember).hasSize(2);
     }
+
+    @Test
+    @DisplayName("필터에 없는 이메일은 중복 조회 없이 가입하고 필터에 추가한다.")
+    void createUser_skip_exists_query_test() {
+        // given
+        memberRepository.save(Member.createWithoutId("a", "a@naver.com", "a", Role.USER));
+        memberEmailIndex.rebuild();
+        // when
+        memberService.createUser(new SignupRequest("b@naver.com", "b", "b"));
+        // then
+        assertThat(memberEmailIndex.getDefiniteMissCount()).isEqualTo(1);
+        assertThatThrownBy(() -> memberService.createUser(new SignupRequest("b@naver.com", "b", "b")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,56 @@
+package roomescape.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.common.util.DateTime;
+import roomescape.member.dto.request.LoginMember;
+
+class PrincipalCacheTest {
+
+    private LocalDateTime now = LocalDateTime.of(2025, 10, 5, 10, 0);
+    private final DateTime dateTime = new DateTime() {
+        @Override
+        public LocalDateTime now() {
+            return now;
+        }
+
+        @Override
+        public LocalDate nowDate() {
+            return now.toLocalDate();
+        }
+    };
+
+    @Test
+    @DisplayName("TTL이 지나면 저장소에서 다시 읽는다.")
+    void expires_after_ttl() {
+        // given
+        PrincipalCache principalCache = new PrincipalCache(dateTime, 60, 10);
+        AtomicInteger loads = new AtomicInteger();
+        principalCache.get(1L, () -> new LoginMember(1L, "코기" + loads.incrementAndGet()));
+        // when
+        LoginMember cached = principalCache.get(1L, () -> new LoginMember(1L, "코기" + loads.incrementAndGet()));
+        now = now.plusSeconds(60);
+        LoginMember reloaded = principalCache.get(1L, () -> new LoginMember(1L, "코기" + loads.incrementAndGet()));
+        // then
+        assertThat(cached.name()).isEqualTo("코기1");
+        assertThat(reloaded.name()).isEqualTo("코기2");
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘지 않도록 오래된 항목을 비운다.")
+    void bounded_by_max_entries() {
+        // given
+        PrincipalCache principalCache = new PrincipalCache(dateTime, 60, 2);
+        // when
+        for (long id = 1; id <= 5; id++) {
+            principalCache.put(new LoginMember(id, "회원" + id));
+        }
+        // then
+        assertThat(principalCache.size()).isEqualTo(2);
+    }
+}
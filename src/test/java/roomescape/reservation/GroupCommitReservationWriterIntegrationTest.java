@@ -0,0 +1,108 @@
+package roomescape.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRepository;
+import roomescape.member.domain.Role;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.service.GroupCommitReservationWriter;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.domain.ReservationTimeRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.domain.ThemeRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class GroupCommitReservationWriterIntegrationTest {
+
+    private static final long STAGGER_MILLIS = 50;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private GroupCommitReservationWriter writer;
+    private Member member;
+    private ReservationTime time;
+    private Theme theme;
+
+    @BeforeEach
+    void beforeEach() {
+        writer = new GroupCommitReservationWriter(reservationRepository, transactionTemplate, 3, 2_000, 10_000);
+        member = memberRepository.save(Member.createWithoutId("홍길동", "group-commit@com", "a", Role.USER));
+        time = reservationTimeRepository.save(ReservationTime.createWithoutId(LocalTime.of(10, 0)));
+        theme = themeRepository.save(Theme.createWithoutId("테마", "설명", "썸네일"));
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("묶음 중간의 중복 예약만 실패하고 앞뒤 예약은 다시 저장된다.")
+    void duplicate_in_middle_of_batch_test() throws InterruptedException {
+        // given
+        LocalDate date = LocalDate.now().plusDays(1);
+        writer.write(createReservation(date));
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        // when
+        CompletableFuture<Reservation> before = CompletableFuture.supplyAsync(
+                () -> writer.write(createReservation(date.plusDays(1))), executorService);
+        Thread.sleep(STAGGER_MILLIS);
+        CompletableFuture<Reservation> duplicated = CompletableFuture.supplyAsync(
+                () -> writer.write(createReservation(date)), executorService);
+        Thread.sleep(STAGGER_MILLIS);
+        CompletableFuture<Reservation> after = CompletableFuture.supplyAsync(
+                () -> writer.write(createReservation(date.plusDays(2))), executorService);
+        executorService.shutdown();
+        // then
+        assertThat(before.join().getId()).isNotNull();
+        assertThat(after.join().getId()).isNotNull();
+        assertThatThrownBy(duplicated::join)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(reservationRepository.findAll()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("종료된 파이프라인에 들어온 예약은 기다리지 않고 실패한다.")
+    void write_after_shutdown_test() throws InterruptedException {
+        // given
+        writer.shutdown();
+        // when & then
+        assertThatThrownBy(() -> writer.write(createReservation(LocalDate.now().plusDays(1))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Reservation createReservation(LocalDate date) {
+        return Reservation.createWithoutId(LocalDateTime.now(), member, date, time, theme);
+    }
+}
@@ -0,0 +1,142 @@
+package roomescape.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRepository;
+import roomescape.member.domain.Role;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.dto.request.ReservationRequest;
+import roomescape.reservation.service.ReservationService;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.domain.ReservationTimeRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.domain.ThemeRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class ReservationConcurrencyTest {
+
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private ThemeRepository themeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ReferenceCatalog referenceCatalog;
+
+    private ReservationTime time;
+    private Theme theme;
+    private List<Member> members;
+    private LocalDate date;
+
+    @BeforeEach
+    void beforeEach() {
+        time = reservationTimeRepository.save(ReservationTime.createWithoutId(LocalTime.of(10, 0)));
+        theme = themeRepository.save(Theme.createWithoutId("테마", "설명", "썸네일"));
+        members = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            members.add(memberRepository.save(
+                    Member.createWithoutId("회원" + i, "member" + i + "@com", "a", Role.USER)));
+        }
+        date = LocalDate.now().plusDays(1);
+        referenceCatalog.reload();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 슬롯을 동시에 예약해도 하나만 성공한다.")
+    void only_one_reservation_per_slot_through_service() throws Exception {
+        // given
+        ReservationRequest request = new ReservationRequest(date, time.getId(), theme.getId());
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Member member : members) {
+            tasks.add(() -> {
+                reservationService.createReservation(request, member.getId());
+                return null;
+            });
+        }
+        // when
+        int successCount = runConcurrently(tasks);
+        // then
+        assertThat(successCount).isEqualTo(1);
+        assertThat(reservationRepository.findSlotsByCondition(theme.getId(), null, date, date)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("인메모리 인덱스를 거치지 않아도 유니크 제약으로 하나만 저장된다.")
+    void only_one_reservation_per_slot_through_repository() throws Exception {
+        // given
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Member member : members) {
+            tasks.add(() -> {
+                reservationRepository.save(
+                        Reservation.createWithoutId(LocalDateTime.now(), member, date, time, theme));
+                return null;
+            });
+        }
+        // when
+        int successCount = runConcurrently(tasks);
+        // then
+        assertThat(successCount).isEqualTo(1);
+        assertThat(reservationRepository.findSlotsByCondition(theme.getId(), null, date, date)).hasSize(1);
+    }
+
+    private int runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Callable<Void> task : tasks) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return task.call();
+            }));
+        }
+        startLatch.countDown();
+
+        int successCount = 0;
+        for (Future<Void> future : futures) {
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                successCount++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause())
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("이미 예약이 존재합니다.");
+            }
+        }
+        executorService.shutdown();
+        return successCount;
+    }
+}
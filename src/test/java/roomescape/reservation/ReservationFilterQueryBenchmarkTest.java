@@ -0,0 +1,129 @@
+package roomescape.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ObjIntConsumer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import roomescape.reservation.domain.ReservationRepository;
+
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext
+class ReservationFilterQueryBenchmarkTest {
+
+    private static final int MEMBER_COUNT = 10;
+    private static final int THEME_COUNT = 10;
+    private static final int TIME_COUNT = 10;
+    private static final int DAYS = 20;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1_000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("필터 조합별 예약 목록 조회의 쿼리 계획 캐시 적중률과 호출당 SQL 수를 잰다.")
+    void measure_find_page() {
+        // given
+        seed();
+        // when & then
+        measure("find-page", (random, filter) -> reservationRepository.findPage(
+                pick(random, filter, 1, MEMBER_COUNT), pick(random, filter, 2, THEME_COUNT),
+                pickDate(random, filter, 4), pickDate(random, filter, 8), null, PAGE_SIZE));
+    }
+
+    @Test
+    @DisplayName("필터 조합별 예약 슬롯 조회의 쿼리 계획 캐시 적중률과 호출당 SQL 수를 잰다.")
+    void measure_find_slots_by_condition() {
+        // given
+        seed();
+        // when & then
+        measure("find-slots", (random, filter) -> reservationRepository.findSlotsByCondition(
+                pick(random, filter, 1, THEME_COUNT), pick(random, filter, 2, TIME_COUNT),
+                pickDate(random, filter, 4), pickDate(random, filter, 8)));
+    }
+
+    private void measure(String label, ObjIntConsumer<Random> search) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Random random = new Random(42);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            search.accept(random, random.nextInt(16));
+        }
+        statistics.clear();
+
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            search.accept(random, random.nextInt(16));
+        }
+        double micros = (System.nanoTime() - started) / 1_000.0 / MEASURED_ITERATIONS;
+
+        long hits = statistics.getQueryPlanCacheHitCount();
+        long misses = statistics.getQueryPlanCacheMissCount();
+        double statementsPerCall = (double) statistics.getPrepareStatementCount() / MEASURED_ITERATIONS;
+        System.out.printf("[%s] calls=%,d planCacheHitRate=%.1f%% statementsPerCall=%.2f latency=%.1fus%n",
+                label, MEASURED_ITERATIONS, 100.0 * hits / Math.max(1, hits + misses), statementsPerCall, micros);
+        assertThat(misses).isZero();
+        assertThat(statementsPerCall).isEqualTo(1.0);
+    }
+
+    private Long pick(Random random, int filter, int bit, int count) {
+        return (filter & bit) != 0 ? 1L + random.nextInt(count) : null;
+    }
+
+    private LocalDate pickDate(Random random, int filter, int bit) {
+        return (filter & bit) != 0 ? FIRST_DATE.plusDays(random.nextInt(DAYS)) : null;
+    }
+
+    private void seed() {
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM reservation_time");
+        jdbcTemplate.update("DELETE FROM theme");
+        jdbcTemplate.update("DELETE FROM member");
+        for (int member = 1; member <= MEMBER_COUNT; member++) {
+            jdbcTemplate.update("INSERT INTO member (id, name, email, password, role) VALUES (?, ?, ?, ?, ?)",
+                    member, "회원" + member, "member" + member + "@email.com", "password", "USER");
+        }
+        for (int time = 1; time <= TIME_COUNT; time++) {
+            jdbcTemplate.update("INSERT INTO reservation_time (id, start_at) VALUES (?, ?)",
+                    time, String.format("%02d:00", 9 + time));
+        }
+        for (int theme = 1; theme <= THEME_COUNT; theme++) {
+            jdbcTemplate.update("INSERT INTO theme (id, name, description, thumbnail) VALUES (?, ?, ?, ?)",
+                    theme, "테마" + theme, "설명", "/image/default.jpg");
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            Date date = Date.valueOf(FIRST_DATE.plusDays(day));
+            for (int theme = 1; theme <= THEME_COUNT; theme++) {
+                for (int time = 1; time <= TIME_COUNT; time++) {
+                    batch.add(new Object[]{date, 1 + (day + theme + time) % MEMBER_COUNT, time, theme});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES (?, ?, ?, ?)",
+                batch);
+    }
+}
@@ -0,0 +1,143 @@
+package roomescape.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+@Tag("benchmark")
+@SpringBootTest
+@DirtiesContext
+class ReservationIndexBenchmarkTest {
+
+    private static final int MEMBER_COUNT = 100;
+    private static final int THEME_COUNT = 50;
+    private static final int TIME_COUNT = 10;
+    private static final int DAYS = 400;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int MEASURED_ITERATIONS = 200;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+    private static final String THEME_DATE_INDEX = "idx_reservation_theme_date_time";
+    private static final String MEMBER_DATE_INDEX = "idx_reservation_member_date";
+    private static final List<String> ACCESS_PATH_INDEXES = List.of(THEME_DATE_INDEX, MEMBER_DATE_INDEX);
+    private static final String THEME_DATE_QUERY =
+            "SELECT id, time_id FROM reservation WHERE theme_id = ? AND date = ?";
+    private static final String MEMBER_DATE_QUERY =
+            "SELECT id FROM reservation WHERE member_id = ? AND date >= ? ORDER BY date";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("접근 경로별 인덱스 적용 전후의 실행 계획과 지연 시간을 비교한다.")
+    void compare_access_paths_before_and_after_indexes() {
+        // given
+        int reservationCount = seed();
+        Map<String, Function<Random, Object[]>> queries = accessPaths();
+        // when
+        Map<String, String> plansWithIndexes = new LinkedHashMap<>();
+        Map<String, Double> withIndexes = measureAll(queries, plansWithIndexes);
+        ACCESS_PATH_INDEXES.forEach(index -> jdbcTemplate.update("DROP INDEX IF EXISTS " + index));
+        Map<String, String> plansWithoutIndexes = new LinkedHashMap<>();
+        Map<String, Double> withoutIndexes = measureAll(queries, plansWithoutIndexes);
+        // then
+        System.out.printf("[index] reservations=%,d%n", reservationCount);
+        queries.keySet().forEach(sql -> System.out.printf("[index] %s%n  before=%.1fus after=%.1fus%n",
+                sql, withoutIndexes.get(sql), withIndexes.get(sql)));
+        assertThat(withIndexes).hasSameSizeAs(withoutIndexes);
+        assertThat(plansWithIndexes.get(THEME_DATE_QUERY)).containsIgnoringCase(THEME_DATE_INDEX);
+        assertThat(plansWithIndexes.get(MEMBER_DATE_QUERY)).containsIgnoringCase(MEMBER_DATE_INDEX);
+        assertThat(plansWithoutIndexes.values()).noneMatch(plan -> ACCESS_PATH_INDEXES.stream()
+                .anyMatch(index -> plan.toLowerCase().contains(index)));
+    }
+
+    private Map<String, Function<Random, Object[]>> accessPaths() {
+        Map<String, Function<Random, Object[]>> queries = new LinkedHashMap<>();
+        queries.put("SELECT id FROM reservation WHERE date BETWEEN ? AND ?", random -> {
+            LocalDate from = FIRST_DATE.plusDays(random.nextInt(DAYS - 7));
+            return new Object[]{Date.valueOf(from), Date.valueOf(from.plusDays(7))};
+        });
+        queries.put(THEME_DATE_QUERY, random -> new Object[]{
+                1 + random.nextInt(THEME_COUNT), Date.valueOf(FIRST_DATE.plusDays(random.nextInt(DAYS)))});
+        queries.put(MEMBER_DATE_QUERY, random -> new Object[]{1 + random.nextInt(MEMBER_COUNT),
+                Date.valueOf(FIRST_DATE.plusDays(DAYS - 30))});
+        queries.put("SELECT id FROM reservation WHERE theme_id = ? LIMIT 1",
+                random -> new Object[]{1 + random.nextInt(THEME_COUNT)});
+        return queries;
+    }
+
+    private Map<String, Double> measureAll(Map<String, Function<Random, Object[]>> queries,
+                                           Map<String, String> plans) {
+        Map<String, Double> latencies = new LinkedHashMap<>();
+        queries.forEach((sql, arguments) -> {
+            Random random = new Random(42);
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, arguments.apply(random))
+                    .replaceAll("\\s+", " ");
+            System.out.printf("[index] plan: %s%n", plan);
+            plans.put(sql, plan);
+            long started = System.nanoTime();
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                jdbcTemplate.queryForList(sql, arguments.apply(random));
+            }
+            latencies.put(sql, (System.nanoTime() - started) / 1_000.0 / MEASURED_ITERATIONS);
+        });
+        return latencies;
+    }
+
+    private int seed() {
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM reservation_time");
+        jdbcTemplate.update("DELETE FROM theme");
+        jdbcTemplate.update("DELETE FROM member");
+        for (int member = 1; member <= MEMBER_COUNT; member++) {
+            jdbcTemplate.update("INSERT INTO member (id, name, email, password, role) VALUES (?, ?, ?, ?, ?)",
+                    member, "회원" + member, "member" + member + "@email.com", "password", "USER");
+        }
+        for (int time = 1; time <= TIME_COUNT; time++) {
+            jdbcTemplate.update("INSERT INTO reservation_time (id, start_at) VALUES (?, ?)",
+                    time, String.format("%02d:00", 9 + time));
+        }
+        for (int theme = 1; theme <= THEME_COUNT; theme++) {
+            jdbcTemplate.update("INSERT INTO theme (id, name, description, thumbnail) VALUES (?, ?, ?, ?)",
+                    theme, "테마" + theme, "설명", "/image/default.jpg");
+        }
+
+        int count = 0;
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int day = 0; day < DAYS; day++) {
+            Date date = Date.valueOf(FIRST_DATE.plusDays(day));
+            for (int theme = 1; theme <= THEME_COUNT; theme++) {
+                for (int time = 1; time <= TIME_COUNT; time++) {
+                    batch.add(new Object[]{date, 1 + count++ % MEMBER_COUNT, time, theme});
+                    if (batch.size() == BATCH_SIZE) {
+                        insertReservations(batch);
+                    }
+                }
+            }
+        }
+        insertReservations(batch);
+        return count;
+    }
+
+    private void insertReservations(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES (?, ?, ?, ?)",
+                batch);
+        batch.clear();
+    }
+}
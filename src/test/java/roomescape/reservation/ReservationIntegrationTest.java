@@ -131,4 +131,22 @@ public class ReservationIntegrationTest {
                 .then().log().all()
                 .statusCode(200);
     }
+
+    @DisplayName("한 번에 0개를 조회하면 400 응답을 준다.")
+    @Test
+    void when_given_zero_limit() {
+        // given
+        ExceptionResponse expected = new ExceptionResponse("[ERROR] 한 번에 조회할 수 있는 개수는 1개 이상 100개 이하입니다.",
+                "/reservations");
+        // when
+        Response response = RestAssured.given().log().all()
+                .when().get("/reservations?limit=0")
+                .then().log().all()
+                .statusCode(400)
+                .extract()
+                .response();
+        // then
+        ExceptionResponse actual = response.as(ExceptionResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
 }
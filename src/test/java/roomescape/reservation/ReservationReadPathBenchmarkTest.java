@@ -0,0 +1,107 @@
+package roomescape.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.dto.response.ReservationResponse;
+
+@Tag("benchmark")
+@SpringBootTest
+class ReservationReadPathBenchmarkTest {
+
+    private static final int THEME_COUNT = 20;
+    private static final int TIME_COUNT = 10;
+    private static final int DAYS = 100;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 20;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("엔티티 조회와 프로젝션 조회의 행당 할당량을 비교한다.")
+    void compare_allocation_per_row() {
+        // given
+        int rowCount = seed();
+        Supplier<List<ReservationResponse>> entityPath = () -> reservationRepository
+                .findAll().stream()
+                .map(ReservationResponse::from)
+                .toList();
+        Supplier<List<ReservationResponse>> projectionPath = () -> reservationRepository
+                .findPage(null, null, null, null, null, Integer.MAX_VALUE).stream()
+                .map(ReservationResponse::from)
+                .toList();
+        // when
+        double entityBytes = measureBytesPerRow(entityPath, rowCount);
+        double projectionBytes = measureBytesPerRow(projectionPath, rowCount);
+        // then
+        System.out.printf("[read-path] rows=%,d entity=%.0fB/row projection=%.0fB/row%n",
+                rowCount, entityBytes, projectionBytes);
+        assertThat(projectionPath.get()).hasSize(rowCount);
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    private double measureBytesPerRow(Supplier<List<ReservationResponse>> readPath, int rowCount) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            transactionTemplate.execute(status -> readPath.get());
+        }
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            transactionTemplate.execute(status -> readPath.get());
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+        return (double) allocated / MEASURED_ITERATIONS / rowCount;
+    }
+
+    private int seed() {
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM reservation_time");
+        jdbcTemplate.update("DELETE FROM theme");
+        jdbcTemplate.update("DELETE FROM member");
+        jdbcTemplate.update("INSERT INTO member (id, name, email, password, role) "
+                + "VALUES (1, '벤치마크', 'bench@email.com', 'password', 'USER')");
+        for (int time = 1; time <= TIME_COUNT; time++) {
+            jdbcTemplate.update("INSERT INTO reservation_time (id, start_at) VALUES (?, ?)",
+                    time, String.format("%02d:00", 9 + time));
+        }
+        for (int theme = 1; theme <= THEME_COUNT; theme++) {
+            jdbcTemplate.update("INSERT INTO theme (id, name, description, thumbnail) VALUES (?, ?, ?, ?)",
+                    theme, "테마" + theme, "설명", "/image/default.jpg");
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            Date date = Date.valueOf(FIRST_DATE.plusDays(day));
+            for (int theme = 1; theme <= THEME_COUNT; theme++) {
+                for (int time = 1; time <= TIME_COUNT; time++) {
+                    batch.add(new Object[]{date, 1, time, theme});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES (?, ?, ?, ?)",
+                batch);
+        return batch.size();
+    }
+}
@@ -0,0 +1,134 @@
+package roomescape.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+import roomescape.common.auth.TokenProvider;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.Role;
+
+@Sql(scripts = "/data/statementCountTest.sql")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class ReservationStatementCountTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        RestAssured.port = this.port;
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("예약 목록 조회는 연관 엔티티를 따로 읽지 않고 한 번의 쿼리로 끝난다.")
+    void reservation_listing_statement_count_test() {
+        // given
+        statistics.clear();
+        // when
+        RestAssured.given().log().all()
+                .when().get("/reservations?themeId=1&limit=10")
+                .then().log().all()
+                .statusCode(200);
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("내 예약 조회는 예약과 대기를 각각 한 번씩만 읽는다.")
+    void my_reservations_statement_count_test() {
+        // given
+        String token = issueToken(Member.createWithId(1L, "코기", "ind07152@naver.com", "asd", Role.USER));
+        warmUpPrincipal(token);
+        statistics.clear();
+        // when
+        RestAssured.given().log().all()
+                .cookie("token", token)
+                .when().get("/reservations/mine?limit=10")
+                .then().log().all()
+                .statusCode(200);
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예약 내보내기는 행 수와 상관없이 한 번의 쿼리로 끝난다.")
+    void reservation_export_statement_count_test() {
+        // given
+        String token = issueToken(Member.createWithId(3L, "ADMIN", "admin@naver.com", "1234", Role.ADMIN));
+        statistics.clear();
+        // when
+        RestAssured.given().log().all()
+                .cookie("token", token)
+                .when().get("/admin/reservations/export")
+                .then().log().all()
+                .statusCode(200);
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예약 가능 시간 조회는 메모리의 슬롯 인덱스와 참조 목록만 읽고 쿼리를 보내지 않는다.")
+    void available_times_statement_count_test() {
+        // given
+        statistics.clear();
+        // when
+        RestAssured.given().log().all()
+                .contentType(ContentType.JSON)
+                .when().get("/times?date=2025-04-28&themeId=1")
+                .then().log().all()
+                .statusCode(200);
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("기간·테마별 예약 현황 조회는 날짜나 테마 수와 상관없이 쿼리를 보내지 않는다.")
+    void availability_matrix_statement_count_test() {
+        // given
+        statistics.clear();
+        // when
+        RestAssured.given().log().all()
+                .when().get("/times/availability?dateFrom=2025-04-18&dateTo=2025-04-28&themeIds=1,2")
+                .then().log().all()
+                .statusCode(200);
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private String issueToken(Member member) {
+        return tokenProvider.issue(member, LocalDateTime.now());
+    }
+
+    private void warmUpPrincipal(String token) {
+        RestAssured.given()
+                .cookie("token", token)
+                .when().get("/login/check")
+                .then()
+                .statusCode(200);
+    }
+}
@@ -1,13 +1,15 @@
 package roomescape.reservation.infrastructure;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
@@ -18,9 +20,13 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.jdbc.Sql;
 import roomescape.member.domain.Member;
 import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationExportRow;
+import roomescape.reservation.domain.ReservationSlot;
+import roomescape.reservation.domain.ReservationView;
 import roomescape.reservation.infrastructure.jpa.JpaReservationRepository;
 import roomescape.reservationTime.domain.ReservationTime;
 import roomescape.theme.domain.Theme;
@@ -35,7 +41,7 @@ class JpaReservationRepositoryTest {
     @Autowired
     private EntityManager em;
 
-    private static Stream<Arguments> findByMemberIdAndThemeGetIdAndGetDate_test() {
+    private static Stream<Arguments> findPage_condition_test() {
         return Stream.of(
                 Arguments.of(1L, null, null, null, 3),
                 Arguments.of(2L, null, null, null, 1),
@@ -83,14 +89,15 @@ class JpaReservationRepositoryTest {
         Reservation reservation2 = Reservation.createWithoutId(LocalDateTime.of(1999, 11, 2, 20, 10), member,
                 LocalDate.of(2000, 10, 2), reservationTime, theme);
         Reservation reservation3 = Reservation.createWithoutId(LocalDateTime.of(1999, 11, 2, 20, 10), member,
-                LocalDate.of(2000, 11, 2), reservationTime, theme);
+                LocalDate.of(2000, 11, 2), em.find(ReservationTime.class, 2L), theme);
         repository.save(reservation1);
         repository.save(reservation2);
         repository.save(reservation3);
         // when
-        List<Reservation> reservations = repository.findByDateAndThemeId(LocalDate.of(2000, 11, 2), 1L);
+        List<ReservationSlot> slots = repository.findSlotsByCondition(1L, null, LocalDate.of(2000, 11, 2),
+                LocalDate.of(2000, 11, 2));
         // then
-        assertThat(reservations).hasSize(2);
+        assertThat(slots).hasSize(2);
 
     }
 
@@ -121,7 +128,7 @@ class JpaReservationRepositoryTest {
         Reservation reservation2 = Reservation.createWithoutId(LocalDateTime.of(1999, 11, 2, 20, 10), member,
                 LocalDate.of(2000, 10, 2), reservationTime, theme);
         Reservation reservation3 = Reservation.createWithoutId(LocalDateTime.of(1999, 11, 2, 20, 10), member,
-                LocalDate.of(2000, 11, 2), reservationTime, theme);
+                LocalDate.of(2000, 11, 2), em.find(ReservationTime.class, 2L), theme);
         repository.save(reservation1);
         repository.save(reservation2);
         repository.save(reservation3);
@@ -151,27 +158,19 @@ class JpaReservationRepositoryTest {
     }
 
     @Test
-    @DisplayName("특정 조건 조회 테스트")
-    void exist_by_test() {
+    @DisplayName("같은 날짜, 시간, 테마의 예약은 저장할 수 없다.")
+    void unique_slot_test() {
         // given
         ReservationTime reservationTime = em.find(ReservationTime.class, 1L);
         Theme theme = em.find(Theme.class, 1L);
         Member member = em.find(Member.class, 1L);
-        Reservation reservation = Reservation.createWithoutId(LocalDateTime.of(1999, 11, 2, 20, 10), member,
-                LocalDate.of(2000, 11, 2), reservationTime, theme);
-        em.persist(reservation);
-        em.flush();
+        repository.save(Reservation.createWithoutId(LocalDateTime.of(1999, 11, 2, 20, 10), member,
+                LocalDate.of(2000, 11, 2), reservationTime, theme));
+        Reservation duplicated = Reservation.createWithoutId(LocalDateTime.of(1999, 11, 2, 20, 10),
+                em.find(Member.class, 2L), LocalDate.of(2000, 11, 2), reservationTime, theme);
         // when & then
-        assertAll(
-                () -> assertThat(repository.existsByDateAndTimeStartAtAndThemeId(
-                        LocalDate.of(2000, 11, 3), LocalTime.of(10, 0), 1L)).isFalse(),
-                () -> assertThat(repository.existsByDateAndTimeStartAtAndThemeId(
-                        LocalDate.of(2000, 11, 2), LocalTime.of(10, 1), 1L)).isFalse(),
-                () -> assertThat(repository.existsByDateAndTimeStartAtAndThemeId(
-                        LocalDate.of(2000, 11, 2), LocalTime.of(10, 0), 2L)).isFalse(),
-                () -> assertThat(repository.existsByDateAndTimeStartAtAndThemeId(
-                        LocalDate.of(2000, 11, 2), LocalTime.of(10, 0), 1L)).isTrue()
-        );
+        assertThatThrownBy(() -> repository.save(duplicated))
+                .isInstanceOf(DataIntegrityViolationException.class);
     }
 
     @ParameterizedTest
@@ -195,23 +194,48 @@ class JpaReservationRepositoryTest {
     @ParameterizedTest
     @MethodSource
     @DisplayName("예약 조건 조회 테스트")
-    void findByMemberIdAndThemeGetIdAndGetDate_test(Long memberId, Long themeId, LocalDate from, LocalDate to,
-                                                    int expectedSize) {
+    void findPage_condition_test(Long memberId, Long themeId, LocalDate from, LocalDate to, int expectedSize) {
         // when
-        List<Reservation> reservations = repository.findByMemberIdAndThemeIdAndDate(memberId, themeId, from, to);
+        List<ReservationView> reservations = repository.findPage(memberId, themeId, from, to, null, 10);
         // then
         assertThat(reservations).hasSize(expectedSize);
     }
 
     @Test
-    @DisplayName("본인 예약들을 조회한다.")
-    void findByMemberGetId_test() {
+    @DisplayName("조건에 맞는 예약을 한 번에 삭제한다.")
+    void deleteByCondition_test() {
+        // when
+        int deletedCount = repository.deleteByCondition(1L, null, LocalDate.of(2025, 4, 28), null);
+        // then
+        assertThat(deletedCount).isEqualTo(2);
+        assertThat(repository.findAll()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("삭제 대상 예약의 슬롯을 조회한다.")
+    void findSlotsByCondition_test() {
+        // when
+        List<ReservationSlot> slots = repository.findSlotsByCondition(null, 1L, null, LocalDate.of(2025, 4, 26));
+        // then
+        assertThat(slots).containsExactlyInAnyOrder(
+                new ReservationSlot(LocalDate.of(2025, 4, 18), 1L, 2L),
+                new ReservationSlot(LocalDate.of(2025, 4, 26), 1L, 3L));
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 예약을 번호 순으로 흘려보내며 내보낸다.")
+    void export_by_condition_test() {
+        // given
+        List<ReservationExportRow> rows = new ArrayList<>();
         // when
-        List<Reservation> findReservations = repository.findByMemberId(1L);
+        repository.exportByCondition(1L, null, LocalDate.of(2025, 4, 28), null, rows::add);
         // then
-        assertThat(findReservations).hasSize(3);
-        assertThat(findReservations.get(0).name()).isEqualTo("코기");
-        assertThat(findReservations.get(1).name()).isEqualTo("코기");
-        assertThat(findReservations.get(2).name()).isEqualTo("코기");
+        assertThat(rows).extracting(ReservationExportRow::memberName, ReservationExportRow::themeName,
+                        ReservationExportRow::date, ReservationExportRow::startAt)
+                .containsExactly(
+                        tuple("코기", "테마1", LocalDate.of(2025, 4, 28), LocalTime.of(10, 0)),
+                        tuple("코기", "테마1", LocalDate.of(2025, 4, 28), LocalTime.of(11, 0))
+                );
+        assertThat(rows.get(0).id()).isLessThan(rows.get(1).id());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package roomescape.reservation.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.jdbc.Sql;
+import roomescape.reservation.infrastructure.jpa.JpaReservationRepository;
+
+@Sql(scripts = "/data/reservationConditionTest.sql")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReservationFetchPlanTest {
+
+    @Autowired
+    private JpaReservationRepository repository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        em.clear();
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("시간이나 테마로 예약 존재 여부를 확인할 때 연관 엔티티를 읽지 않는다.")
+    void exists_fetch_plan_test() {
+        // when
+        boolean existsByTime = repository.existsByTimeId(1L);
+        boolean existsByTheme = repository.existsByThemeId(1L);
+        // then
+        assertAll(
+                () -> assertThat(existsByTime).isTrue(),
+                () -> assertThat(existsByTheme).isTrue(),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(2),
+                () -> assertThat(statistics.getEntityLoadCount()).isZero()
+        );
+    }
+}
@@ -2,15 +2,25 @@ package roomescape.reservation.service;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationExportRow;
+import roomescape.reservation.domain.ReservationKey;
 import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.domain.ReservationSlot;
+import roomescape.reservation.domain.ReservationView;
 
 public class FakeReservationRepository implements ReservationRepository {
 
+    static final Comparator<ReservationKey> KEY_ORDER = Comparator.comparing(ReservationKey::date)
+            .thenComparing(ReservationKey::startAt)
+            .thenComparing(ReservationKey::id);
+
     private final List<Reservation> reservations;
 
     private AtomicLong index = new AtomicLong(0);
@@ -25,8 +35,30 @@ public class FakeReservationRepository implements ReservationRepository {
     }
 
     @Override
-    public List<Reservation> findByMemberIdAndThemeIdAndDate(Long memberId, Long themeId, LocalDate dateFrom,
-                                                             LocalDate dateTo) {
+    public List<ReservationView> findPage(Long memberId, Long themeId, LocalDate dateFrom, LocalDate dateTo,
+                                          ReservationKey after, int size) {
+        return findByCondition(memberId, themeId, dateFrom, dateTo).stream()
+                .filter(reservation -> after == null || KEY_ORDER.compare(keyOf(reservation), after) > 0)
+                .sorted(Comparator.comparing(this::keyOf, KEY_ORDER))
+                .limit(size)
+                .map(reservation -> new ReservationView(reservation.getId(), reservation.name(),
+                        reservation.getDate(), reservation.timeId(), reservation.reservationTime(),
+                        reservation.themeId(), reservation.themeName(), reservation.themeDescription(),
+                        reservation.themeThumbnail()))
+                .toList();
+    }
+
+    @Override
+    public void exportByCondition(Long memberId, Long themeId, LocalDate dateFrom, LocalDate dateTo,
+                                  Consumer<ReservationExportRow> consumer) {
+        findByCondition(memberId, themeId, dateFrom, dateTo).stream()
+                .sorted(Comparator.comparing(Reservation::getId))
+                .map(reservation -> new ReservationExportRow(reservation.getId(), reservation.getMember().getName(),
+                        reservation.themeName(), reservation.getDate(), reservation.reservationTime()))
+                .forEach(consumer);
+    }
+
+    private List<Reservation> findByCondition(Long memberId, Long themeId, LocalDate dateFrom, LocalDate dateTo) {
         return reservations.stream()
                 .filter(reservation -> matchMemberId(reservation, memberId))
                 .filter(reservation -> matchThemeId(reservation, themeId))
@@ -34,19 +66,14 @@ public class FakeReservationRepository implements ReservationRepository {
                 .toList();
     }
 
-    @Override
-    public boolean existsByTimeId(Long timeId) {
-        return reservations.stream()
-                .anyMatch(reservation -> reservation.timeId().equals(timeId));
+    private ReservationKey keyOf(Reservation reservation) {
+        return new ReservationKey(reservation.getDate(), reservation.reservationTime(), reservation.getId());
     }
 
     @Override
-    public boolean hasSameReservation(Reservation reservation) {
+    public boolean existsByTimeId(Long timeId) {
         return reservations.stream()
-                .anyMatch(nextReservation ->
-                        nextReservation.reservationTime().equals(reservation.reservationTime())
-                                && nextReservation.getDate().equals(reservation.getDate())
-                                && nextReservation.themeId().equals(reservation.themeId()));
+                .anyMatch(reservation -> reservation.timeId().equals(timeId));
     }
 
     @Override
@@ -56,15 +83,19 @@ public class FakeReservationRepository implements ReservationRepository {
     }
 
     @Override
-    public List<Reservation> findByMemberId(Long memberId) {
+    public Optional<Long> findMemberIdBySlot(LocalDate date, Long timeId, Long themeId) {
         return reservations.stream()
-                .filter(reservation -> reservation.memberId().equals(memberId))
-                .toList();
+                .filter(reservation -> reservation.getDate().equals(date) && reservation.timeId().equals(timeId)
+                        && reservation.themeId().equals(themeId))
+                .map(Reservation::memberId)
+                .findAny();
     }
 
-
     @Override
     public Reservation save(Reservation reservation) {
+        if (hasSameSlot(reservation)) {
+            throw new IllegalArgumentException("이미 예약이 존재합니다.");
+        }
         long currentIndex = index.incrementAndGet();
 
         reservations.add(reservation.assignId(currentIndex));
@@ -87,12 +118,61 @@ public class FakeReservationRepository implements ReservationRepository {
     }
 
     @Override
-    public List<Reservation> findByDateAndThemeId(LocalDate date, Long themeId) {
+    public Optional<Reservation> findById(Long id) {
         return reservations.stream()
-                .filter(reservation -> reservation.getDate().equals(date) && reservation.themeId().equals(themeId))
+                .filter(reservation -> Objects.equals(reservation.getId(), id))
+                .findAny();
+    }
+
+    @Override
+    public List<ReservationSlot> findSlotsByIdIn(List<Long> ids) {
+        return reservations.stream()
+                .filter(reservation -> ids.contains(reservation.getId()))
+                .map(this::toSlot)
+                .toList();
+    }
+
+    @Override
+    public List<ReservationSlot> findSlotsByCondition(Long themeId, Long timeId, LocalDate dateFrom,
+                                                      LocalDate dateTo) {
+        return reservations.stream()
+                .filter(reservation -> matchSlotCondition(reservation, themeId, timeId, dateFrom, dateTo))
+                .map(this::toSlot)
                 .toList();
     }
 
+    @Override
+    public int deleteByIdIn(List<Long> ids) {
+        int size = reservations.size();
+        reservations.removeIf(reservation -> ids.contains(reservation.getId()));
+        return size - reservations.size();
+    }
+
+    @Override
+    public int deleteByCondition(Long themeId, Long timeId, LocalDate dateFrom, LocalDate dateTo) {
+        int size = reservations.size();
+        reservations.removeIf(reservation -> matchSlotCondition(reservation, themeId, timeId, dateFrom, dateTo));
+        return size - reservations.size();
+    }
+
+    private ReservationSlot toSlot(Reservation reservation) {
+        return new ReservationSlot(reservation.getDate(), reservation.timeId(), reservation.themeId());
+    }
+
+    private boolean matchSlotCondition(Reservation reservation, Long themeId, Long timeId, LocalDate dateFrom,
+                                       LocalDate dateTo) {
+        return matchThemeId(reservation, themeId)
+                && (timeId == null || reservation.timeId().equals(timeId))
+                && matchDateRange(reservation, dateFrom, dateTo);
+    }
+
+    private boolean hasSameSlot(Reservation reservation) {
+        return reservations.stream()
+                .anyMatch(savedReservation -> savedReservation.getDate().equals(reservation.getDate())
+                        && Objects.equals(savedReservation.themeId(), reservation.themeId())
+                        && Objects.equals(savedReservation.timeId(), reservation.timeId()));
+    }
+
     private boolean matchMemberId(Reservation reservation, Long memberId) {
         return memberId == null || reservation.memberId().equals(memberId);
     }
@@ -1,5 +1,7 @@
 package roomescape.reservation.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -7,15 +9,22 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import roomescape.reservation.domain.Reservation;
 import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.domain.ReservationTimeAvailability;
 import roomescape.reservationTime.domain.ReservationTimeRepository;
 
 public class FakeReservationTimeRepository implements ReservationTimeRepository {
 
     private final List<ReservationTime> reservationTimes;
+    private final List<Reservation> reservations;
     private AtomicLong index = new AtomicLong(0);
 
     public FakeReservationTimeRepository(List<ReservationTime> reservationTimes) {
+        this(reservationTimes, new ArrayList<>());
+    }
+
+    public FakeReservationTimeRepository(List<ReservationTime> reservationTimes, List<Reservation> reservations) {
         this.reservationTimes = reservationTimes;
+        this.reservations = reservations;
     }
 
     @Override
@@ -50,4 +59,14 @@ public class FakeReservationTimeRepository implements ReservationTimeRepository
         ReservationTime reservationTime = findReservationTime.get();
         reservationTimes.remove(reservationTime);
     }
+
+    @Override
+    public List<ReservationTimeAvailability> findAvailabilities(LocalDate date, Long themeId) {
+        return reservationTimes.stream()
+                .map(time -> new ReservationTimeAvailability(time.getId(), time.getStartAt(), reservations.stream()
+                        .anyMatch(reservation -> reservation.getDate().equals(date)
+                                && reservation.themeId().equals(themeId)
+                                && reservation.timeId().equals(time.getId()))))
+                .toList();
+    }
 }
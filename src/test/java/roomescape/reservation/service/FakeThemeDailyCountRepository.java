@@ -0,0 +1,70 @@
+package roomescape.reservation.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationPeriod;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.domain.ThemeDailyCountRepository;
+
+public class FakeThemeDailyCountRepository implements ThemeDailyCountRepository {
+
+    private final List<Theme> themes;
+    private final List<Reservation> reservations;
+    private final Map<ThemeDate, Long> counts = new HashMap<>();
+
+    public FakeThemeDailyCountRepository(List<Theme> themes, List<Reservation> reservations) {
+        this.themes = themes;
+        this.reservations = reservations;
+    }
+
+    @Override
+    public void increase(Long themeId, LocalDate date, int delta) {
+        counts.merge(new ThemeDate(themeId, date), (long) delta, Long::sum);
+    }
+
+    @Override
+    public List<Theme> findPopularThemes(ReservationPeriod period, int popularCount) {
+        Map<Long, Long> themeCounts = new HashMap<>();
+        counts.forEach((themeDate, count) -> {
+            if (!themeDate.date().isBefore(period.findStartDate()) && !themeDate.date()
+                    .isAfter(period.findEndDate())) {
+                themeCounts.merge(themeDate.themeId(), count, Long::sum);
+            }
+        });
+
+        return themeCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.naturalOrder())))
+                .limit(popularCount)
+                .map(entry -> findTheme(entry.getKey()))
+                .toList();
+    }
+
+    @Override
+    public void rebuild() {
+        counts.clear();
+        for (Reservation reservation : reservations) {
+            increase(reservation.themeId(), reservation.getDate(), 1);
+        }
+    }
+
+    public long countOf(Long themeId, LocalDate date) {
+        return counts.getOrDefault(new ThemeDate(themeId, date), 0L);
+    }
+
+    private Theme findTheme(Long themeId) {
+        return themes.stream()
+                .filter(theme -> Objects.equals(theme.getId(), themeId))
+                .findAny()
+                .orElseThrow();
+    }
+
+    private record ThemeDate(Long themeId, LocalDate date) {
+    }
+}
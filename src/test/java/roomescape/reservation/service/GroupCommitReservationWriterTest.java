@@ -0,0 +1,135 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import roomescape.common.exception.ServiceUnavailableException;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.Role;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.theme.domain.Theme;
+
+class GroupCommitReservationWriterTest {
+
+    private final List<Reservation> reservations = Collections.synchronizedList(new ArrayList<>());
+    private final TransactionOperations rollbackOnFailure = new TransactionOperations() {
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            List<Reservation> snapshot = new ArrayList<>(reservations);
+            try {
+                return action.doInTransaction(new SimpleTransactionStatus());
+            } catch (RuntimeException e) {
+                reservations.clear();
+                reservations.addAll(snapshot);
+                throw e;
+            }
+        }
+    };
+    private final GroupCommitReservationWriter writer = new GroupCommitReservationWriter(
+            new FakeReservationRepository(reservations), rollbackOnFailure, 8, 5, 1_000);
+
+    private final Member member = Member.createWithId(1L, "홍길동", "a@com", "a", Role.USER);
+    private final ReservationTime time = ReservationTime.createWithId(1L, LocalTime.of(10, 0));
+    private final Theme theme = Theme.createWithId(1L, "테마", "설명", "썸네일");
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 예약을 모두 저장하고 각자에게 결과를 돌려준다.")
+    void write_concurrently_test() {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        List<CompletableFuture<Reservation>> futures = new ArrayList<>();
+        // when
+        for (int day = 1; day <= 20; day++) {
+            Reservation reservation = createReservation(LocalDate.of(2025, 10, day));
+            futures.add(CompletableFuture.supplyAsync(() -> writer.write(reservation), executorService));
+        }
+        List<Long> ids = futures.stream()
+                .map(CompletableFuture::join)
+                .map(Reservation::getId)
+                .toList();
+        executorService.shutdown();
+        // then
+        assertThat(ids).doesNotContainNull().doesNotHaveDuplicates().hasSize(20);
+        assertThat(reservations).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("실패한 예약은 같은 묶음의 다른 예약에 영향을 주지 않는다.")
+    void write_failure_is_isolated_test() {
+        // given
+        writer.write(createReservation(LocalDate.of(2025, 10, 1)));
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        // when
+        CompletableFuture<Reservation> duplicated = CompletableFuture.supplyAsync(
+                () -> writer.write(createReservation(LocalDate.of(2025, 10, 1))), executorService);
+        CompletableFuture<Reservation> other = CompletableFuture.supplyAsync(
+                () -> writer.write(createReservation(LocalDate.of(2025, 10, 2))), executorService);
+        executorService.shutdown();
+        // then
+        assertThat(other.join().getId()).isNotNull();
+        assertThatThrownBy(duplicated::join)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("정해진 시간 안에 처리되지 않은 예약은 저장하지 않고 실패한다.")
+    void write_timeout_test() throws InterruptedException {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionOperations blocking = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return action.doInTransaction(new SimpleTransactionStatus());
+            }
+        };
+        GroupCommitReservationWriter slowWriter = new GroupCommitReservationWriter(
+                new FakeReservationRepository(reservations), blocking, 1, 0, 100);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CompletableFuture<Reservation> first = CompletableFuture.supplyAsync(
+                () -> slowWriter.write(createReservation(LocalDate.of(2025, 10, 1))), executorService);
+        executorService.shutdown();
+        entered.await();
+        // when & then
+        assertThatThrownBy(() -> slowWriter.write(createReservation(LocalDate.of(2025, 10, 2))))
+                .isInstanceOf(ServiceUnavailableException.class);
+        release.countDown();
+        assertThatThrownBy(first::join)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+        slowWriter.shutdown();
+        assertThat(reservations).extracting(Reservation::getDate)
+                .containsExactly(LocalDate.of(2025, 10, 1));
+    }
+
+    private Reservation createReservation(LocalDate date) {
+        return Reservation.createWithoutId(LocalDateTime.of(1999, 11, 2, 20, 10), member, date, time, theme);
+    }
+}
@@ -0,0 +1,91 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.Role;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.dto.request.ReservationConditionRequest;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.theme.domain.Theme;
+
+class ReservationExportServiceTest {
+
+    private final List<Reservation> reservations = new ArrayList<>();
+    private final ReservationRepository reservationRepository = new FakeReservationRepository(reservations);
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ReservationExportService reservationExportService = new ReservationExportService(
+            reservationRepository, objectMapper);
+
+    @BeforeEach
+    void beforeEach() {
+        Member member = Member.createWithId(1L, "홍길동", "a@com", "a", Role.USER);
+        ReservationTime time = ReservationTime.createWithId(1L, LocalTime.of(10, 0));
+        Theme theme1 = Theme.createWithId(1L, "방탈출, \"공포\"", "설명", "localhost:8080");
+        Theme theme2 = Theme.createWithId(2L, "추리", "설명", "localhost:8080");
+        LocalDateTime now = LocalDateTime.of(2024, 10, 1, 10, 0);
+        reservationRepository.save(Reservation.createWithoutId(now, member, LocalDate.of(2024, 10, 6), time, theme1));
+        reservationRepository.save(Reservation.createWithoutId(now, member, LocalDate.of(2024, 10, 7), time, theme2));
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 예약을 CSV로 내보내고 쉼표와 따옴표가 든 값은 감싼다.")
+    void export_csv_test() throws IOException {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // when
+        reservationExportService.export(new ReservationConditionRequest(null, null, null, null),
+                ReservationExportFormat.CSV, outputStream);
+        // then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,member,theme,date,time\n"
+                        + "1,홍길동,\"방탈출, \"\"공포\"\"\",2024-10-06,10:00\n"
+                        + "2,홍길동,추리,2024-10-07,10:00\n");
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 예약을 한 줄에 하나씩 JSON으로 내보낸다.")
+    void export_ndjson_test() throws IOException {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // when
+        reservationExportService.export(new ReservationConditionRequest(null, 2L, null, null),
+                ReservationExportFormat.NDJSON, outputStream);
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        JsonNode row = objectMapper.readTree(lines[0]);
+        assertAll(
+                () -> assertThat(lines).hasSize(1),
+                () -> assertThat(row.get("id").asLong()).isEqualTo(2L),
+                () -> assertThat(row.get("themeName").asText()).isEqualTo("추리"),
+                () -> assertThat(row.get("date").asText()).isEqualTo("2024-10-07")
+        );
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이면 예외가 발생한다.")
+    void unsupported_format_test() {
+        assertThatThrownBy(() -> ReservationExportFormat.from("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
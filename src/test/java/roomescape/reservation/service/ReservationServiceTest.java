@@ -2,6 +2,7 @@ package roomescape.reservation.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
@@ -16,6 +17,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.transaction.support.TransactionOperations;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.common.pagination.CursorPage;
+import roomescape.common.pagination.CursorRequest;
 import roomescape.common.util.DateTime;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.MemberRepository;
@@ -23,14 +28,21 @@ import roomescape.member.domain.Role;
 import roomescape.member.service.FakeMemberRepository;
 import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.dto.request.ReservationBulkCancelRequest;
 import roomescape.reservation.dto.request.ReservationConditionRequest;
 import roomescape.reservation.dto.request.ReservationRequest;
 import roomescape.reservation.dto.response.MyReservationResponse;
+import roomescape.reservation.dto.response.ReservationBulkCancelResponse;
 import roomescape.reservation.dto.response.ReservationResponse;
 import roomescape.reservationTime.domain.ReservationTime;
 import roomescape.reservationTime.domain.ReservationTimeRepository;
 import roomescape.theme.domain.Theme;
 import roomescape.theme.domain.ThemeRepository;
+import roomescape.theme.service.PopularThemeCache;
+import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.domain.WaitingRepository;
+import roomescape.waiting.service.FakeWaitingRepository;
+import roomescape.waiting.service.WaitingLineIndex;
 
 class ReservationServiceTest {
 
@@ -53,8 +65,17 @@ class ReservationServiceTest {
     private ReservationTimeRepository reservationTimeRepository = new FakeReservationTimeRepository(reservationTimes);
     private ReservationRepository reservationRepository = new FakeReservationRepository(reservations);
     private MemberRepository memberRepository = new FakeMemberRepository(new ArrayList<>());
+    private SlotAvailabilityIndex slotAvailabilityIndex = new SlotAvailabilityIndex(reservationRepository, dateTime);
+    private WaitingRepository waitingRepository = new FakeWaitingRepository(new ArrayList<>(), reservations);
+    private WaitingLineIndex waitingLineIndex = new WaitingLineIndex(waitingRepository);
+    private FakeThemeDailyCountRepository themeDailyCountRepository = new FakeThemeDailyCountRepository(
+            themes, reservations);
+    private ReferenceCatalog referenceCatalog = new ReferenceCatalog(themeRepository, reservationTimeRepository);
     private ReservationService reservationService = new ReservationService(dateTime, reservationRepository,
-            reservationTimeRepository, themeRepository, memberRepository);
+            referenceCatalog, memberRepository, slotAvailabilityIndex,
+            new ImmediateReservationWriter(reservationRepository), waitingRepository, waitingLineIndex,
+            TransactionOperations.withoutTransaction(), themeDailyCountRepository,
+            new PopularThemeCache());
 
     private static Stream<Arguments> cant_not_reserve_before_now() {
         return Stream.of(
@@ -107,6 +128,8 @@ class ReservationServiceTest {
         reservationRepository.save(
                 Reservation.createWithoutId(LocalDateTime.of(1999, 11, 2, 20, 10), member, LocalDate.of(2024, 10, 8),
                         reservationTime1, theme2));
+        slotAvailabilityIndex.rebuild();
+        referenceCatalog.reload();
     }
 
     @DisplayName("지나간 날짜와 시간에 대한 예약을 생성할 수 없다.")
@@ -126,6 +149,113 @@ class ReservationServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @DisplayName("같은 날짜, 시간, 테마의 예약은 한 번만 생성된다.")
+    @Test
+    void cant_reserve_same_slot_twice() {
+        // given
+        ReservationRequest request = new ReservationRequest(LocalDate.of(2025, 10, 6), 1L, 1L);
+        reservationService.createReservation(request, 1L);
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservation(request, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 예약이 존재합니다.");
+    }
+
+    @DisplayName("예약을 삭제하면 같은 슬롯을 다시 예약할 수 있다.")
+    @Test
+    void can_reserve_after_delete() {
+        // given
+        ReservationRequest request = new ReservationRequest(LocalDate.of(2025, 10, 6), 1L, 1L);
+        ReservationResponse response = reservationService.createReservation(request, 1L);
+        // when
+        reservationService.deleteReservationById(response.id());
+        // then
+        assertThat(reservationService.createReservation(request, 1L).id()).isNotNull();
+    }
+
+    @DisplayName("예약을 추가하고 삭제하면 테마별 일간 예약 건수가 함께 바뀐다.")
+    @Test
+    void theme_daily_count_follows_reservation() {
+        // given
+        ReservationRequest request = new ReservationRequest(LocalDate.of(2025, 10, 6), 1L, 1L);
+        ReservationResponse response = reservationService.createReservation(request, 1L);
+        long countAfterCreate = themeDailyCountRepository.countOf(1L, request.date());
+        // when
+        reservationService.deleteReservationById(response.id());
+        // then
+        assertThat(countAfterCreate).isEqualTo(1);
+        assertThat(themeDailyCountRepository.countOf(1L, request.date())).isZero();
+    }
+
+    @DisplayName("예약을 삭제하면 첫 번째 대기자의 예약으로 승격된다.")
+    @Test
+    void promote_first_waiting_on_delete() {
+        // given
+        ReservationRequest request = new ReservationRequest(LocalDate.of(2025, 10, 6), 1L, 1L);
+        ReservationResponse response = reservationService.createReservation(request, 1L);
+        Member waitingMember = memberRepository.save(Member.createWithId(2L, "김철수", "b@com", "b", Role.USER));
+        Waiting waiting = waitingRepository.save(Waiting.createWithoutId(dateTime.now(), waitingMember,
+                request.date(), reservationTimeRepository.findById(1L).get(), themeRepository.findById(1L).get()));
+        waitingLineIndex.add(1L, request.date(), 1L, waiting.getId());
+        // when
+        reservationService.deleteReservationById(response.id());
+        // then
+        assertThat(reservationService.getMyReservations(2L, CursorRequest.first()).items())
+                .extracting(MyReservationResponse::status)
+                .containsExactly("예약");
+        assertThat(waitingRepository.findById(waiting.getId())).isEmpty();
+        assertThat(slotAvailabilityIndex.isClaimed(1L, request.date(), 1L)).isTrue();
+    }
+
+    @DisplayName("내 예약 목록에 예약 대기 순번이 표시된다.")
+    @Test
+    void getMyReservations_waiting_rank_test() {
+        // given
+        ReservationRequest request = new ReservationRequest(LocalDate.of(2025, 10, 6), 1L, 1L);
+        reservationService.createReservation(request, 1L);
+        Member waitingMember = memberRepository.save(Member.createWithId(2L, "김철수", "b@com", "b", Role.USER));
+        Waiting waiting = waitingRepository.save(Waiting.createWithoutId(dateTime.now(), waitingMember,
+                request.date(), reservationTimeRepository.findById(1L).get(), themeRepository.findById(1L).get()));
+        waitingLineIndex.add(1L, request.date(), 1L, waiting.getId());
+        // when
+        List<MyReservationResponse> responses = reservationService.getMyReservations(2L, CursorRequest.first()).items();
+        // then
+        assertThat(responses).extracting(MyReservationResponse::status)
+                .containsExactly("1번째 예약대기");
+    }
+
+    @DisplayName("번호 목록으로 예약을 한 번에 취소한다.")
+    @Test
+    void cancelReservations_by_ids_test() {
+        // when
+        ReservationBulkCancelResponse response = reservationService.cancelReservations(
+                new ReservationBulkCancelRequest(List.of(1L, 2L), null, null, null, null));
+        // then
+        assertThat(response.cancelledCount()).isEqualTo(2);
+        assertThat(reservations).hasSize(1);
+        assertThat(slotAvailabilityIndex.isClaimed(1L, LocalDate.of(2024, 10, 6), 1L)).isFalse();
+    }
+
+    @DisplayName("조건으로 예약과 해당 슬롯의 예약 대기를 한 번에 취소한다.")
+    @Test
+    void cancelReservations_by_condition_test() {
+        // given
+        ReservationRequest request = new ReservationRequest(LocalDate.of(2025, 10, 6), 1L, 2L);
+        reservationService.createReservation(request, 1L);
+        Member waitingMember = memberRepository.save(Member.createWithId(2L, "김철수", "b@com", "b", Role.USER));
+        Waiting waiting = waitingRepository.save(Waiting.createWithoutId(dateTime.now(), waitingMember,
+                request.date(), reservationTimeRepository.findById(1L).get(), themeRepository.findById(2L).get()));
+        waitingLineIndex.add(2L, request.date(), 1L, waiting.getId());
+        // when
+        ReservationBulkCancelResponse response = reservationService.cancelReservations(
+                new ReservationBulkCancelRequest(null, 2L, null, null, null));
+        // then
+        assertThat(response.cancelledCount()).isEqualTo(3);
+        assertThat(waitingRepository.findById(waiting.getId())).isEmpty();
+        assertThat(waitingLineIndex.first(2L, request.date(), 1L)).isEmpty();
+        assertThat(slotAvailabilityIndex.isClaimed(2L, request.date(), 1L)).isFalse();
+    }
+
     @Test
     @DisplayName("예약을 정상적으로 삭제한다.")
     void deleteReservationByGetId_test() {
@@ -133,7 +263,7 @@ class ReservationServiceTest {
         reservationService.deleteReservationById(1L);
         // then
         List<ReservationResponse> reservations = reservationService.getReservations(
-                new ReservationConditionRequest(null, null, null, null));
+                new ReservationConditionRequest(null, null, null, null), CursorRequest.first()).items();
         assertThat(reservations).hasSize(2);
     }
 
@@ -143,7 +273,8 @@ class ReservationServiceTest {
         // given
         ReservationConditionRequest request = new ReservationConditionRequest(null, null, null, null);
         // when
-        List<ReservationResponse> reservations = reservationService.getReservations(request);
+        List<ReservationResponse> reservations = reservationService.getReservations(request, CursorRequest.first())
+                .items();
         // then
         assertThat(reservations).hasSize(3);
     }
@@ -156,7 +287,8 @@ class ReservationServiceTest {
         // given
         ReservationConditionRequest request = new ReservationConditionRequest(memberId, themeId, dateForm, dateTo);
         // when
-        List<ReservationResponse> reservations = reservationService.getReservations(request);
+        List<ReservationResponse> reservations = reservationService.getReservations(request, CursorRequest.first())
+                .items();
         // then
         assertThat(reservations).hasSize(expectedCount);
     }
@@ -170,11 +302,56 @@ class ReservationServiceTest {
         MyReservationResponse expected3 = MyReservationResponse.from(reservations.get(2));
 
         // when
-        List<MyReservationResponse> responses = reservationService.getMyReservations(1L);
+        List<MyReservationResponse> responses = reservationService.getMyReservations(1L, CursorRequest.first()).items();
         // then
         assertThat(responses).hasSize(3);
         assertThat(responses.get(0)).isEqualTo(expected1);
         assertThat(responses.get(1)).isEqualTo(expected2);
         assertThat(responses.get(2)).isEqualTo(expected3);
     }
+
+    @Test
+    @DisplayName("커서를 따라가면 다음 페이지의 예약을 이어서 들고 온다.")
+    void getReservations_cursor_test() {
+        // given
+        ReservationConditionRequest request = new ReservationConditionRequest(null, null, null, null);
+        CursorPage<ReservationResponse> firstPage = reservationService.getReservations(request,
+                new CursorRequest(null, 2));
+        // when
+        CursorPage<ReservationResponse> secondPage = reservationService.getReservations(request,
+                new CursorRequest(firstPage.nextCursor(), 2));
+        // then
+        assertAll(
+                () -> assertThat(firstPage.items()).extracting(ReservationResponse::id).containsExactly(1L, 2L),
+                () -> assertThat(secondPage.items()).extracting(ReservationResponse::id).containsExactly(3L),
+                () -> assertThat(secondPage.nextCursor()).isNull()
+        );
+    }
+
+    @Test
+    @DisplayName("내 예약과 예약 대기를 날짜와 시간 순으로 합쳐 페이지를 나눈다.")
+    void getMyReservations_cursor_test() {
+        // given
+        LocalDate date = LocalDate.of(2025, 10, 6);
+        reservationService.createReservation(new ReservationRequest(date, 1L, 1L), 1L);
+        memberRepository.save(Member.createWithId(2L, "김철수", "b@com", "b", Role.USER));
+        reservationService.createReservation(new ReservationRequest(date, 1L, 2L), 2L);
+        Waiting waiting = waitingRepository.save(Waiting.createWithoutId(dateTime.now(),
+                memberRepository.findById(1L).get(), date, reservationTimeRepository.findById(1L).get(),
+                themeRepository.findById(2L).get()));
+        waitingLineIndex.add(2L, date, 1L, waiting.getId());
+        // when
+        CursorPage<MyReservationResponse> firstPage = reservationService.getMyReservations(1L,
+                new CursorRequest(null, 3));
+        CursorPage<MyReservationResponse> secondPage = reservationService.getMyReservations(1L,
+                new CursorRequest(firstPage.nextCursor(), 3));
+        // then
+        assertAll(
+                () -> assertThat(firstPage.items()).extracting(MyReservationResponse::date).containsExactly(
+                        LocalDate.of(2024, 10, 6), LocalDate.of(2024, 10, 7), LocalDate.of(2024, 10, 8)),
+                () -> assertThat(secondPage.items()).extracting(MyReservationResponse::status)
+                        .containsExactly("예약", "1번째 예약대기"),
+                () -> assertThat(secondPage.nextCursor()).isNull()
+        );
+    }
 }
@@ -0,0 +1,109 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.common.util.DateTime;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.Role;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.theme.domain.Theme;
+
+class SlotAvailabilityIndexTest {
+
+    private DateTime dateTime = new DateTime() {
+        @Override
+        public LocalDateTime now() {
+            return LocalDateTime.of(2024, 10, 1, 10, 0);
+        }
+
+        @Override
+        public LocalDate nowDate() {
+            return LocalDate.of(2024, 10, 1);
+        }
+    };
+    private List<Reservation> reservations = new ArrayList<>();
+    private ReservationRepository reservationRepository = new FakeReservationRepository(reservations);
+    private SlotAvailabilityIndex slotAvailabilityIndex = new SlotAvailabilityIndex(reservationRepository, dateTime);
+
+    @Test
+    @DisplayName("이미 점유된 슬롯은 다시 점유할 수 없다.")
+    void claim_test() {
+        // given
+        LocalDate date = LocalDate.of(2025, 10, 6);
+        // when
+        boolean first = slotAvailabilityIndex.claim(1L, date, 1L);
+        boolean second = slotAvailabilityIndex.claim(1L, date, 1L);
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(slotAvailabilityIndex.isClaimed(1L, date, 1L)).isTrue();
+        assertThat(slotAvailabilityIndex.isClaimed(2L, date, 1L)).isFalse();
+        assertThat(slotAvailabilityIndex.isClaimed(1L, date, 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("해제된 슬롯은 다시 점유할 수 있다.")
+    void release_test() {
+        // given
+        LocalDate date = LocalDate.of(2025, 10, 6);
+        slotAvailabilityIndex.claim(1L, date, 1L);
+        // when
+        slotAvailabilityIndex.release(1L, date, 1L);
+        // then
+        assertThat(slotAvailabilityIndex.isClaimed(1L, date, 1L)).isFalse();
+        assertThat(slotAvailabilityIndex.claim(1L, date, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장된 예약으로 인덱스를 재구성한다.")
+    void rebuild_test() {
+        // given
+        ReservationTime time = ReservationTime.createWithId(1L, LocalTime.of(10, 0));
+        Theme theme = Theme.createWithId(1L, "테마", "설명", "썸네일");
+        Member member = Member.createWithId(1L, "홍길동", "a@com", "a", Role.USER);
+        reservationRepository.save(Reservation.createWithoutId(
+                LocalDateTime.of(1999, 11, 2, 20, 10), member, LocalDate.of(2024, 10, 6), time, theme));
+        // when
+        slotAvailabilityIndex.rebuild();
+        // then
+        assertThat(slotAvailabilityIndex.isClaimed(1L, LocalDate.of(2024, 10, 6), 1L)).isTrue();
+        assertThat(slotAvailabilityIndex.isClaimed(1L, LocalDate.of(2024, 10, 7), 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("오늘 이전 날짜의 예약은 인덱스 재구성에서 제외한다.")
+    void rebuild_skip_past_date_test() {
+        // given
+        ReservationTime time = ReservationTime.createWithId(1L, LocalTime.of(10, 0));
+        Theme theme = Theme.createWithId(1L, "테마", "설명", "썸네일");
+        Member member = Member.createWithId(1L, "홍길동", "a@com", "a", Role.USER);
+        reservationRepository.save(Reservation.createWithoutId(
+                LocalDateTime.of(1999, 11, 2, 20, 10), member, LocalDate.of(2024, 9, 30), time, theme));
+        // when
+        slotAvailabilityIndex.rebuild();
+        // then
+        assertThat(slotAvailabilityIndex.isClaimed(1L, LocalDate.of(2024, 9, 30), 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("오늘 이전 날짜의 슬롯을 인덱스에서 정리한다.")
+    void prune_past_dates_test() {
+        // given
+        slotAvailabilityIndex.claim(1L, LocalDate.of(2024, 9, 30), 1L);
+        slotAvailabilityIndex.claim(1L, LocalDate.of(2024, 10, 1), 1L);
+        // when
+        slotAvailabilityIndex.prunePastDates();
+        // then
+        assertThat(slotAvailabilityIndex.isClaimed(1L, LocalDate.of(2024, 9, 30), 1L)).isFalse();
+        assertThat(slotAvailabilityIndex.isClaimed(1L, LocalDate.of(2024, 10, 1), 1L)).isTrue();
+    }
+}
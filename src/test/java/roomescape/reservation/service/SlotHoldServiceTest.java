@@ -0,0 +1,149 @@
+package roomescape.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.common.util.DateTime;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRepository;
+import roomescape.member.domain.Role;
+import roomescape.member.service.FakeMemberRepository;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.dto.request.ReservationRequest;
+import roomescape.reservation.dto.response.ReservationResponse;
+import roomescape.reservation.dto.response.SlotHoldResponse;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.domain.ReservationTimeRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.domain.ThemeRepository;
+import roomescape.theme.service.PopularThemeCache;
+import roomescape.waiting.domain.WaitingRepository;
+import roomescape.waiting.service.FakeWaitingRepository;
+import roomescape.waiting.service.WaitingLineIndex;
+
+class SlotHoldServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 10, 6);
+
+    private LocalDateTime now = LocalDateTime.of(2025, 10, 5, 10, 0);
+
+    private DateTime dateTime = new DateTime() {
+        @Override
+        public LocalDateTime now() {
+            return now;
+        }
+
+        @Override
+        public LocalDate nowDate() {
+            return now.toLocalDate();
+        }
+    };
+
+    private List<Reservation> reservations = new ArrayList<>();
+    private ThemeRepository themeRepository = new FakeThemeRepository(new ArrayList<>(), reservations);
+    private ReservationTimeRepository reservationTimeRepository = new FakeReservationTimeRepository(new ArrayList<>());
+    private ReservationRepository reservationRepository = new FakeReservationRepository(reservations);
+    private MemberRepository memberRepository = new FakeMemberRepository(new ArrayList<>());
+    private SlotAvailabilityIndex slotAvailabilityIndex = new SlotAvailabilityIndex(reservationRepository, dateTime);
+    private WaitingRepository waitingRepository = new FakeWaitingRepository(new ArrayList<>());
+    private WaitingLineIndex waitingLineIndex = new WaitingLineIndex(waitingRepository);
+    private FakeThemeDailyCountRepository themeDailyCountRepository = new FakeThemeDailyCountRepository(
+            new ArrayList<>(), reservations);
+    private ReferenceCatalog referenceCatalog = new ReferenceCatalog(themeRepository, reservationTimeRepository);
+    private ReservationService reservationService = new ReservationService(dateTime, reservationRepository,
+            referenceCatalog, memberRepository, slotAvailabilityIndex,
+            new ImmediateReservationWriter(reservationRepository), waitingRepository, waitingLineIndex,
+            TransactionOperations.withoutTransaction(), themeDailyCountRepository,
+            new PopularThemeCache());
+    private SlotHoldService slotHoldService = new SlotHoldService(reservationService, slotAvailabilityIndex,
+            referenceCatalog, dateTime, 5);
+
+    @BeforeEach
+    void beforeEach() {
+        themeRepository.save(Theme.createWithId(1L, "테스트1", "설명", "localhost:8080"));
+        reservationTimeRepository.save(ReservationTime.createWithoutId(LocalTime.of(10, 0)));
+        memberRepository.save(Member.createWithId(1L, "홍길동", "a@com", "a", Role.USER));
+        memberRepository.save(Member.createWithId(2L, "김철수", "b@com", "b", Role.USER));
+        referenceCatalog.reload();
+    }
+
+    @AfterEach
+    void afterEach() {
+        slotHoldService.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점한 슬롯은 다른 사용자가 예약할 수 없다.")
+    void held_slot_cant_be_reserved() {
+        // given
+        slotHoldService.hold(new ReservationRequest(DATE, 1L, 1L), 1L);
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservation(new ReservationRequest(DATE, 1L, 1L), 2L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> slotHoldService.hold(new ReservationRequest(DATE, 1L, 1L), 2L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("선점을 확정하면 예약이 생성된다.")
+    void confirm_test() {
+        // given
+        SlotHoldResponse hold = slotHoldService.hold(new ReservationRequest(DATE, 1L, 1L), 1L);
+        // when
+        ReservationResponse response = slotHoldService.confirm(hold.id(), 1L);
+        // then
+        assertThat(response.id()).isNotNull();
+        assertThat(reservations).hasSize(1);
+        assertThat(slotAvailabilityIndex.isClaimed(1L, DATE, 1L)).isTrue();
+        assertThat(slotHoldService.countActiveHolds()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 선점은 확정할 수 없다.")
+    void confirm_other_member_hold_test() {
+        // given
+        SlotHoldResponse hold = slotHoldService.hold(new ReservationRequest(DATE, 1L, 1L), 1L);
+        // when & then
+        assertThatThrownBy(() -> slotHoldService.confirm(hold.id(), 2L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 선점은 풀리고 확정할 수 없다.")
+    void expire_test() {
+        // given
+        SlotHoldResponse hold = slotHoldService.hold(new ReservationRequest(DATE, 1L, 1L), 1L);
+        // when
+        now = now.plusMinutes(5).plusSeconds(1);
+        slotHoldService.expireHolds();
+        // then
+        assertThat(slotAvailabilityIndex.isClaimed(1L, DATE, 1L)).isFalse();
+        assertThatThrownBy(() -> slotHoldService.confirm(hold.id(), 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("선점을 취소하면 슬롯이 다시 열린다.")
+    void cancel_test() {
+        // given
+        SlotHoldResponse hold = slotHoldService.hold(new ReservationRequest(DATE, 1L, 1L), 1L);
+        // when
+        slotHoldService.cancel(hold.id(), 1L);
+        // then
+        assertThat(slotAvailabilityIndex.isClaimed(1L, DATE, 1L)).isFalse();
+        assertThat(reservationService.createReservation(new ReservationRequest(DATE, 1L, 1L), 2L).id())
+                .isNotNull();
+    }
+}
@@ -8,6 +8,8 @@ import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -102,4 +104,61 @@ public class ReservationTimeIntegrationTest {
         ExceptionResponse actual = response.as(ExceptionResponse.class);
         assertThat(actual).isEqualTo(expected);
     }
+
+    @DisplayName("시작 날짜가 종료 날짜보다 늦은 가용성 조회는 400 응답을 준다.")
+    @Test
+    void when_given_reversed_availability_range() {
+        // given
+        ExceptionResponse expected = new ExceptionResponse("[ERROR] 시작 날짜는 종료 날짜보다 늦을 수 없습니다.",
+                "/times/availability");
+        // when
+        Response response = RestAssured.given().log().all()
+                .when().get("/times/availability?dateFrom=2030-01-10&dateTo=2030-01-01")
+                .then().log().all()
+                .statusCode(400)
+                .extract()
+                .response();
+        // then
+        ExceptionResponse actual = response.as(ExceptionResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("93일을 넘는 가용성 조회는 400 응답을 준다.")
+    @Test
+    void when_given_too_long_availability_range() {
+        // given
+        ExceptionResponse expected = new ExceptionResponse("[ERROR] 한 번에 조회할 수 있는 기간은 93일까지입니다.",
+                "/times/availability");
+        // when
+        Response response = RestAssured.given().log().all()
+                .when().get("/times/availability?dateFrom=2030-01-01&dateTo=2030-04-05")
+                .then().log().all()
+                .statusCode(400)
+                .extract()
+                .response();
+        // then
+        ExceptionResponse actual = response.as(ExceptionResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("50개를 넘는 테마의 가용성 조회는 400 응답을 준다.")
+    @Test
+    void when_given_too_many_availability_themes() {
+        // given
+        ExceptionResponse expected = new ExceptionResponse("[ERROR] 한 번에 조회할 수 있는 테마는 50개까지입니다.",
+                "/times/availability");
+        String themeIds = LongStream.rangeClosed(1, 51)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+        // when
+        Response response = RestAssured.given().log().all()
+                .when().get("/times/availability?dateFrom=2030-01-01&dateTo=2030-01-02&themeIds=" + themeIds)
+                .then().log().all()
+                .statusCode(400)
+                .extract()
+                .response();
+        // then
+        ExceptionResponse actual = response.as(ExceptionResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
 }
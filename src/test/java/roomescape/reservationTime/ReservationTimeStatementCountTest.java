@@ -0,0 +1,56 @@
+package roomescape.reservationTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.jdbc.Sql;
+
+@Sql(scripts = "/data/statementCountTest.sql")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "reservation.availability.source=database",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class ReservationTimeStatementCountTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        RestAssured.port = this.port;
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("DB에서 예약 가능 시간을 계산할 때도 시간 수와 상관없이 한 번의 쿼리로 끝난다.")
+    void available_times_from_database_statement_count_test() {
+        // given
+        statistics.clear();
+        // when
+        RestAssured.given().log().all()
+                .contentType(ContentType.JSON)
+                .when().get("/times?date=2025-04-28&themeId=1")
+                .then().log().all()
+                .statusCode(200);
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,161 @@
+package roomescape.reservationTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.domain.ReservationSlot;
+import roomescape.reservation.service.SlotAvailabilityIndex;
+import roomescape.reservation.service.SlotHoldService;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.domain.ReservationTimeRepository;
+import roomescape.reservationTime.dto.response.TimeConditionResponse;
+import roomescape.reservationTime.service.DatabaseTimeAvailabilityReader;
+import roomescape.reservationTime.service.IndexTimeAvailabilityReader;
+
+@Tag("benchmark")
+@SpringBootTest
+class TimeAvailabilityBenchmarkTest {
+
+    private static final int TIME_COUNT = 10;
+    private static final int THEME_COUNT = 50;
+    private static final int BATCH_SIZE = 10_000;
+    private static final double BOOKED_RATIO = 0.3;
+    private static final int SAMPLE_COUNT = 50;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1_000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationTimeRepository reservationTimeRepository;
+
+    @Autowired
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @Autowired
+    private ReferenceCatalog referenceCatalog;
+
+    @Autowired
+    private SlotHoldService slotHoldService;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 1_000_000})
+    @DisplayName("시간별 예약 여부 조회 방식을 예약 건수별로 비교한다.")
+    void compare_availability_paths(int reservationCount) {
+        // given
+        int days = seed(reservationCount);
+        slotAvailabilityIndex.rebuild();
+        referenceCatalog.reload();
+        IndexTimeAvailabilityReader indexReader = new IndexTimeAvailabilityReader(referenceCatalog,
+                slotAvailabilityIndex);
+        DatabaseTimeAvailabilityReader databaseReader = new DatabaseTimeAvailabilityReader(
+                reservationTimeRepository, slotHoldService);
+        // when
+        double entityMicros = measure(days, this::readFromEntities);
+        double indexMicros = measure(days, indexReader::read);
+        double databaseMicros = measure(days, databaseReader::read);
+        // then
+        System.out.printf("[availability] reservations=%,d entity=%.1fus index=%.1fus database=%.1fus%n",
+                reservationCount, entityMicros, indexMicros, databaseMicros);
+        Random random = new Random(7);
+        List<TimeConditionResponse> sampled = new ArrayList<>();
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            LocalDate date = FIRST_DATE.plusDays(random.nextInt(days));
+            Long themeId = 1L + random.nextInt(THEME_COUNT);
+            List<TimeConditionResponse> expected = readFromEntities(date, themeId);
+            assertThat(databaseReader.read(date, themeId)).isEqualTo(expected);
+            assertThat(indexReader.read(date, themeId)).isEqualTo(expected);
+            sampled.addAll(expected);
+        }
+        assertThat(sampled).anyMatch(TimeConditionResponse::alreadyBooked)
+                .anyMatch(response -> !response.alreadyBooked());
+    }
+
+    private List<TimeConditionResponse> readFromEntities(LocalDate date, Long themeId) {
+        List<ReservationSlot> slots = reservationRepository.findSlotsByCondition(themeId, null, date, date);
+        List<TimeConditionResponse> responses = new ArrayList<>();
+        for (ReservationTime time : reservationTimeRepository.findAll()) {
+            boolean booked = slots.stream()
+                    .anyMatch(slot -> slot.timeId().equals(time.getId()));
+            responses.add(new TimeConditionResponse(time.getId(), time.getStartAt(), booked));
+        }
+        return responses;
+    }
+
+    private double measure(int days, BiFunction<LocalDate, Long, List<TimeConditionResponse>> reader) {
+        Random random = new Random(42);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            reader.apply(FIRST_DATE.plusDays(random.nextInt(days)), 1L + random.nextInt(THEME_COUNT));
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            reader.apply(FIRST_DATE.plusDays(random.nextInt(days)), 1L + random.nextInt(THEME_COUNT));
+        }
+        return (System.nanoTime() - started) / 1_000.0 / MEASURED_ITERATIONS;
+    }
+
+    private int seed(int reservationCount) {
+        jdbcTemplate.update("DELETE FROM reservation");
+        jdbcTemplate.update("DELETE FROM reservation_time");
+        jdbcTemplate.update("DELETE FROM theme");
+        jdbcTemplate.update("DELETE FROM member");
+        jdbcTemplate.update("INSERT INTO member (id, name, email, password, role) "
+                + "VALUES (1, '벤치마크', 'bench@email.com', 'password', 'USER')");
+        for (int time = 1; time <= TIME_COUNT; time++) {
+            jdbcTemplate.update("INSERT INTO reservation_time (id, start_at) VALUES (?, ?)",
+                    time, String.format("%02d:00", 9 + time));
+        }
+        for (int theme = 1; theme <= THEME_COUNT; theme++) {
+            jdbcTemplate.update("INSERT INTO theme (id, name, description, thumbnail) VALUES (?, ?, ?, ?)",
+                    theme, "테마" + theme, "설명", "/image/default.jpg");
+        }
+
+        int days = (int) Math.ceil(reservationCount / (TIME_COUNT * THEME_COUNT * BOOKED_RATIO));
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int day = 0; day < days; day++) {
+            Date date = Date.valueOf(FIRST_DATE.plusDays(day));
+            for (int theme = 1; theme <= THEME_COUNT; theme++) {
+                for (int time = 1; time <= TIME_COUNT; time++) {
+                    if (random.nextDouble() >= BOOKED_RATIO) {
+                        continue;
+                    }
+                    batch.add(new Object[]{date, 1, time, theme});
+                    if (batch.size() == BATCH_SIZE) {
+                        insertReservations(batch);
+                    }
+                }
+            }
+        }
+        insertReservations(batch);
+        return days;
+    }
+
+    private void insertReservations(List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation (date, member_id, time_id, theme_id) VALUES (?, ?, ?, ?)",
+                batch);
+        batch.clear();
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
@@ -11,7 +12,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.jdbc.Sql;
 import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.domain.ReservationTimeAvailability;
 import roomescape.reservationTime.infrastructure.jpa.JpaReservationTimeRepository;
 
 @DataJpaTest
@@ -75,4 +78,18 @@ public class JpaReservationTimeRepositoryTest {
         assertThat(findTime).isPresent();
         assertThat(reservationTime.getStartAt()).isEqualTo(findTime.get().getStartAt());
     }
+
+    @Test
+    @Sql(scripts = "/data/reservationConditionTest.sql")
+    @DisplayName("한 번의 조회로 시간별 예약 여부를 가져온다.")
+    void find_availabilities_test() {
+        // when
+        List<ReservationTimeAvailability> availabilities = repository.findAvailabilities(LocalDate.of(2025, 4, 28), 1L);
+        // then
+        assertThat(availabilities).containsExactly(
+                new ReservationTimeAvailability(1L, LocalTime.of(10, 0), true),
+                new ReservationTimeAvailability(2L, LocalTime.of(11, 0), true),
+                new ReservationTimeAvailability(3L, LocalTime.of(12, 0), false)
+        );
+    }
 }
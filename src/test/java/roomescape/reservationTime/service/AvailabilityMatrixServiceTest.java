@@ -0,0 +1,100 @@
+package roomescape.reservationTime.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.common.util.DateTime;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.Role;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.service.FakeReservationRepository;
+import roomescape.reservation.service.FakeReservationTimeRepository;
+import roomescape.reservation.service.FakeThemeRepository;
+import roomescape.reservation.service.SlotAvailabilityIndex;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.domain.ReservationTimeRepository;
+import roomescape.reservationTime.dto.request.AvailabilityMatrixRequest;
+import roomescape.reservationTime.dto.response.AvailabilityMatrixResponse;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.domain.ThemeRepository;
+
+class AvailabilityMatrixServiceTest {
+    private static final LocalDate DATE = LocalDate.of(2025, 10, 6);
+
+    private DateTime dateTime = new DateTime() {
+        @Override
+        public LocalDateTime now() {
+            return LocalDateTime.of(2025, 10, 1, 10, 0);
+        }
+
+        @Override
+        public LocalDate nowDate() {
+            return LocalDate.of(2025, 10, 1);
+        }
+    };
+
+    private List<Reservation> reservations = new ArrayList<>();
+    private ReservationRepository reservationRepository = new FakeReservationRepository(reservations);
+    private ReservationTimeRepository reservationTimeRepository = new FakeReservationTimeRepository(new ArrayList<>());
+    private ThemeRepository themeRepository = new FakeThemeRepository(new ArrayList<>(), reservations);
+    private SlotAvailabilityIndex slotAvailabilityIndex = new SlotAvailabilityIndex(reservationRepository, dateTime);
+    private ReferenceCatalog referenceCatalog = new ReferenceCatalog(themeRepository, reservationTimeRepository);
+    private AvailabilityMatrixService availabilityMatrixService = new AvailabilityMatrixService(referenceCatalog,
+            slotAvailabilityIndex);
+
+    @BeforeEach
+    void beforeEach() {
+        ReservationTime time1 = reservationTimeRepository.save(ReservationTime.createWithoutId(LocalTime.of(10, 0)));
+        reservationTimeRepository.save(ReservationTime.createWithoutId(LocalTime.of(11, 0)));
+        ReservationTime time3 = reservationTimeRepository.save(ReservationTime.createWithoutId(LocalTime.of(12, 0)));
+        Theme theme1 = themeRepository.save(Theme.createWithId(1L, "테마1", "설명", "썸네일"));
+        themeRepository.save(Theme.createWithId(2L, "테마2", "설명", "썸네일"));
+        Member member = Member.createWithId(1L, "홍길동", "a@com", "a", Role.USER);
+        LocalDateTime now = LocalDateTime.of(2025, 10, 1, 10, 0);
+        reservationRepository.save(Reservation.createWithoutId(now, member, DATE, time1, theme1));
+        reservationRepository.save(Reservation.createWithoutId(now, member, DATE, time3, theme1));
+        reservationRepository.save(Reservation.createWithoutId(now, member, DATE.plusDays(1), time3, theme1));
+        slotAvailabilityIndex.rebuild();
+        referenceCatalog.reload();
+    }
+
+    @Test
+    @DisplayName("테마별로 날짜마다 예약된 시간을 비트 마스크로 돌려준다.")
+    void matrix_test() {
+        // when
+        AvailabilityMatrixResponse response = availabilityMatrixService.getAvailabilityMatrix(
+                new AvailabilityMatrixRequest(DATE, DATE.plusDays(2), null));
+        // then
+        assertThat(response.times()).hasSize(3);
+        assertThat(response.themes()).containsOnlyKeys(1L, 2L);
+        assertThat(response.themes().get(1L)).containsExactly("5", "4", "0");
+        assertThat(response.themes().get(2L)).containsExactly("0", "0", "0");
+    }
+
+    @Test
+    @DisplayName("요청한 테마만 돌려준다.")
+    void matrix_with_themes_test() {
+        // when
+        AvailabilityMatrixResponse response = availabilityMatrixService.getAvailabilityMatrix(
+                new AvailabilityMatrixRequest(DATE, DATE, List.of(2L)));
+        // then
+        assertThat(response.themes()).containsOnlyKeys(2L);
+    }
+
+    @Test
+    @DisplayName("조회 기간이 너무 길면 예외가 발생한다.")
+    void too_long_range_test() {
+        assertThatThrownBy(() -> new AvailabilityMatrixRequest(DATE, DATE.plusDays(93), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,6 +2,8 @@ package roomescape.reservationTime.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -11,12 +13,17 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.common.util.DateTime;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.Role;
 import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.domain.ReservationRepository;
 import roomescape.reservation.service.FakeReservationRepository;
 import roomescape.reservation.service.FakeReservationTimeRepository;
+import roomescape.reservation.service.FakeThemeRepository;
+import roomescape.reservation.service.SlotAvailabilityIndex;
+import roomescape.reservation.service.SlotHoldService;
 import roomescape.reservationTime.domain.ReservationTime;
 import roomescape.reservationTime.domain.ReservationTimeRepository;
 import roomescape.reservationTime.dto.request.TimeConditionRequest;
@@ -24,7 +31,20 @@ import roomescape.reservationTime.dto.response.TimeConditionResponse;
 import roomescape.theme.domain.Theme;
 
 class ReservationTimeServiceTest {
+    private DateTime dateTime = new DateTime() {
+        @Override
+        public LocalDateTime now() {
+            return LocalDateTime.of(2024, 10, 1, 10, 0);
+        }
+
+        @Override
+        public LocalDate nowDate() {
+            return LocalDate.of(2024, 10, 1);
+        }
+    };
     private ReservationTimeService reservationTimeService;
+    private ReservationTimeService databaseReservationTimeService;
+    private SlotHoldService slotHoldService = mock(SlotHoldService.class);
 
     @BeforeEach
     void beforeEach() {
@@ -35,7 +55,8 @@ class ReservationTimeServiceTest {
         List<ReservationTime> reservationTimes = new ArrayList<>();
         List<Reservation> reservations = new ArrayList<>();
 
-        ReservationTimeRepository reservationTimeRepository = new FakeReservationTimeRepository(reservationTimes);
+        ReservationTimeRepository reservationTimeRepository = new FakeReservationTimeRepository(reservationTimes,
+                reservations);
         reservationTime1 = reservationTimeRepository.save(reservationTime1);
         reservationTimeRepository.save(reservationTime2);
 
@@ -44,7 +65,15 @@ class ReservationTimeServiceTest {
         reservationRepository.save(Reservation.createWithoutId(
                 LocalDateTime.of(1999, 11, 2, 20, 10), member, LocalDate.of(2024, 10, 6), reservationTime1, theme));
 
-        reservationTimeService = new ReservationTimeService(reservationRepository, reservationTimeRepository);
+        SlotAvailabilityIndex slotAvailabilityIndex = new SlotAvailabilityIndex(reservationRepository, dateTime);
+        slotAvailabilityIndex.rebuild();
+        ReferenceCatalog referenceCatalog = new ReferenceCatalog(new FakeThemeRepository(new ArrayList<>(),
+                reservations), reservationTimeRepository);
+        referenceCatalog.reload();
+        reservationTimeService = new ReservationTimeService(reservationRepository, reservationTimeRepository,
+                new IndexTimeAvailabilityReader(referenceCatalog, slotAvailabilityIndex), referenceCatalog);
+        databaseReservationTimeService = new ReservationTimeService(reservationRepository, reservationTimeRepository,
+                new DatabaseTimeAvailabilityReader(reservationTimeRepository, slotHoldService), referenceCatalog);
     }
 
     @DisplayName("이미 존재하는 예약이 있는 경우 예약 시간을 삭제할 수 없다.")
@@ -69,4 +98,20 @@ class ReservationTimeServiceTest {
                 new TimeConditionResponse(2L, LocalTime.of(11, 0), false)
         );
     }
+
+    @DisplayName("DB 조회 방식에서도 예약과 선점된 시간을 예약 불가로 표시한다.")
+    @Test
+    void time_condition_from_database_test() {
+        // given
+        LocalDate localDate = LocalDate.of(2024, 10, 6);
+        when(slotHoldService.isHeld(1L, localDate, 2L)).thenReturn(true);
+        // when
+        List<TimeConditionResponse> responses = databaseReservationTimeService.getTimesWithCondition(
+                new TimeConditionRequest(localDate, 1L));
+        // then
+        assertThat(responses).containsExactly(
+                new TimeConditionResponse(1L, LocalTime.of(10, 0), true),
+                new TimeConditionResponse(2L, LocalTime.of(11, 0), true)
+        );
+    }
 }
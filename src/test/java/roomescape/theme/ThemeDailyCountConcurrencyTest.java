@@ -0,0 +1,60 @@
+package roomescape.theme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import roomescape.theme.domain.ThemeDailyCount;
+import roomescape.theme.domain.ThemeDailyCountRepository;
+import roomescape.theme.infrastructure.jpa.JpaThemeDailyCountRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class ThemeDailyCountConcurrencyTest {
+
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private ThemeDailyCountRepository themeDailyCountRepository;
+
+    @Autowired
+    private JpaThemeDailyCountRepository jpaThemeDailyCountRepository;
+
+    @Test
+    @DisplayName("처음 집계되는 날짜에 동시에 건수를 늘려도 한 행에 모두 반영된다.")
+    void increase_first_row_concurrently() throws Exception {
+        // given
+        LocalDate date = LocalDate.of(2030, 1, 1);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                themeDailyCountRepository.increase(1L, date, 1);
+                return null;
+            }));
+        }
+        // when
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        // then
+        List<ThemeDailyCount> counts = jpaThemeDailyCountRepository.findAll();
+        assertThat(counts).hasSize(1);
+        assertThat(counts.getFirst().getReservationCount()).isEqualTo(THREAD_COUNT);
+    }
+}
@@ -139,4 +139,22 @@ public class ThemeIntegrationTest {
         ExceptionResponse actual = response.as(ExceptionResponse.class);
         assertThat(actual).isEqualTo(expected);
     }
+
+    @DisplayName("인기 테마를 0개 조회하면 400 응답을 준다.")
+    @Test
+    void when_given_zero_popular_count() {
+        // given
+        ExceptionResponse expected = new ExceptionResponse("[ERROR] 조회할 인기 테마 개수는 1개 이상 100개 이하여야 합니다.",
+                "/themes/popular");
+        // when
+        Response response = RestAssured.given().log().all()
+                .when().get("/themes/popular?count=0")
+                .then().log().all()
+                .statusCode(400)
+                .extract()
+                .response();
+        // then
+        ExceptionResponse actual = response.as(ExceptionResponse.class);
+        assertThat(actual).isEqualTo(expected);
+    }
 }
@@ -0,0 +1,82 @@
+package roomescape.theme.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.Role;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationPeriod;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.infrastructure.jpa.JpaThemeDailyCountRepository;
+
+@DataJpaTest
+class JpaThemeDailyCountRepositoryTest {
+
+    @Autowired
+    private JpaThemeDailyCountRepository repository;
+    @Autowired
+    private EntityManager em;
+
+    private Theme theme1;
+    private Theme theme2;
+
+    @BeforeEach
+    void beforeEach() {
+        ReservationTime time1 = ReservationTime.createWithoutId(LocalTime.of(10, 0));
+        ReservationTime time2 = ReservationTime.createWithoutId(LocalTime.of(11, 0));
+        theme1 = Theme.createWithoutId("a", "a", "a");
+        theme2 = Theme.createWithoutId("b", "b", "b");
+        Member member = Member.createWithoutId("a", "a", "a", Role.USER);
+        em.persist(time1);
+        em.persist(time2);
+        em.persist(theme1);
+        em.persist(theme2);
+        em.persist(member);
+
+        LocalDateTime now = LocalDateTime.of(1999, 11, 2, 20, 10);
+        em.persist(Reservation.createWithoutId(now, member, LocalDate.of(2000, 11, 2), time1, theme1));
+        em.persist(Reservation.createWithoutId(now, member, LocalDate.of(2000, 11, 3), time1, theme2));
+        em.persist(Reservation.createWithoutId(now, member, LocalDate.of(2000, 11, 3), time2, theme2));
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("예약 테이블로부터 일간 건수를 다시 만들어 인기 테마를 순서대로 반환한다.")
+    void rebuild_and_find_popular_themes() {
+        // given
+        repository.rebuild();
+        ReservationPeriod period = new ReservationPeriod(LocalDate.of(2000, 11, 5), 3, 1);
+        // when
+        List<Theme> popularThemes = repository.findPopularThemes(period, 10);
+        // then
+        assertThat(popularThemes).extracting(Theme::getName)
+                .containsExactly("b", "a");
+    }
+
+    @Test
+    @DisplayName("일간 건수를 늘리고 줄이면 순위에 바로 반영되고, 건수가 0인 테마는 제외된다.")
+    void increase_test() {
+        // given
+        repository.rebuild();
+        LocalDate date = LocalDate.of(2000, 11, 4);
+        // when
+        repository.increase(theme1.getId(), date, 2);
+        repository.increase(theme2.getId(), LocalDate.of(2000, 11, 3), -2);
+        em.clear();
+        // then
+        ReservationPeriod period = new ReservationPeriod(LocalDate.of(2000, 11, 5), 3, 1);
+        assertThat(repository.findPopularThemes(period, 10)).extracting(Theme::getName)
+                .containsExactly("a");
+    }
+}
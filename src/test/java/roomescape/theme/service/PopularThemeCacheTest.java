@@ -0,0 +1,98 @@
+package roomescape.theme.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.theme.dto.request.PopularThemeRequest;
+import roomescape.theme.dto.response.PopularThemeResponse;
+
+class PopularThemeCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 12, 7);
+    private static final PopularThemeRequest REQUEST = new PopularThemeRequest(null, null, null);
+
+    private final PopularThemeCache popularThemeCache = new PopularThemeCache();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private List<PopularThemeResponse> load(PopularThemeRequest request) {
+        int count = loadCount.incrementAndGet();
+        return List.of(new PopularThemeResponse("테마" + count, "썸네일", "설명"));
+    }
+
+    @Test
+    @DisplayName("같은 날에는 한 번만 계산하고 날짜가 바뀌면 다시 계산한다.")
+    void load_once_per_day() {
+        // when
+        popularThemeCache.get(REQUEST, TODAY, this::load);
+        popularThemeCache.get(REQUEST, TODAY, this::load);
+        List<PopularThemeResponse> tomorrow = popularThemeCache.get(REQUEST, TODAY.plusDays(1), this::load);
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        assertThat(tomorrow).extracting(PopularThemeResponse::name).containsExactly("테마2");
+    }
+
+    @Test
+    @DisplayName("조회 기간 안의 날짜가 무효화되면 다시 계산하고, 기간 밖의 날짜는 영향을 주지 않는다.")
+    void invalidate_only_covering_window() {
+        // given
+        popularThemeCache.get(REQUEST, TODAY, this::load);
+        // when
+        popularThemeCache.invalidate(TODAY.plusDays(3));
+        popularThemeCache.get(REQUEST, TODAY, this::load);
+        popularThemeCache.invalidate(TODAY.minusDays(3));
+        popularThemeCache.get(REQUEST, TODAY, this::load);
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 스케줄러가 캐시된 조건을 모두 새 날짜로 다시 계산한다.")
+    void refresh_on_rollover() {
+        // given
+        popularThemeCache.get(REQUEST, TODAY, this::load);
+        // when
+        popularThemeCache.refresh(TODAY.plusDays(1), this::load);
+        popularThemeCache.get(REQUEST, TODAY.plusDays(1), this::load);
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("새 결과를 계산하는 동안 다른 요청은 이전 결과를 받는다.")
+    void serve_previous_result_while_refreshing() throws Exception {
+        // given
+        popularThemeCache.get(REQUEST, TODAY, this::load);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<PopularThemeResponse>> refreshing = CompletableFuture.supplyAsync(() ->
+                popularThemeCache.get(REQUEST, TODAY.plusDays(1), request -> {
+                    loading.countDown();
+                    await(release);
+                    return load(request);
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        // when
+        List<PopularThemeResponse> during = popularThemeCache.get(REQUEST, TODAY.plusDays(1), this::load);
+        release.countDown();
+        // then
+        assertThat(during).extracting(PopularThemeResponse::name).containsExactly("테마1");
+        assertThat(refreshing.get(5, TimeUnit.SECONDS)).extracting(PopularThemeResponse::name)
+                .containsExactly("테마2");
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -10,16 +10,22 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import roomescape.common.catalog.ReferenceCatalog;
 import roomescape.common.util.DateTime;
 import roomescape.member.domain.Member;
 import roomescape.member.domain.Role;
 import roomescape.reservation.domain.Reservation;
 import roomescape.reservation.domain.ReservationRepository;
 import roomescape.reservation.service.FakeReservationRepository;
+import roomescape.reservation.service.FakeReservationTimeRepository;
+import roomescape.reservation.service.FakeThemeDailyCountRepository;
 import roomescape.reservation.service.FakeThemeRepository;
 import roomescape.theme.domain.Theme;
 import roomescape.theme.domain.ThemeRepository;
+import roomescape.theme.dto.request.PopularThemeRequest;
+import roomescape.theme.dto.request.ThemeRequest;
 import roomescape.theme.dto.response.PopularThemeResponse;
+import roomescape.theme.dto.response.ThemeResponse;
 
 class ThemeServiceTest {
 
@@ -39,7 +45,12 @@ class ThemeServiceTest {
     private List<Theme> themes = new ArrayList<>();
     private ReservationRepository reservationRepository = new FakeReservationRepository(reservations);
     private ThemeRepository themeRepository = new FakeThemeRepository(themes, reservations);
-    private ThemeService themeService = new ThemeService(dateTime, themeRepository, reservationRepository);
+    private ReferenceCatalog referenceCatalog = new ReferenceCatalog(themeRepository,
+            new FakeReservationTimeRepository(new ArrayList<>()));
+    private FakeThemeDailyCountRepository themeDailyCountRepository = new FakeThemeDailyCountRepository(themes,
+            reservations);
+    private ThemeService themeService = new ThemeService(dateTime, themeRepository, reservationRepository,
+            referenceCatalog, themeDailyCountRepository, new PopularThemeCache());
 
     @BeforeEach
     void beforeEach() {
@@ -59,6 +70,8 @@ class ThemeServiceTest {
         themeRepository.save(theme1);
         themeRepository.save(theme2);
         themeRepository.save(theme3);
+        referenceCatalog.reload();
+        themeService.rebuildDailyCounts();
     }
 
     @DisplayName("존재하는 예약의 테마는 삭제할 수 없다.")
@@ -72,11 +85,40 @@ class ThemeServiceTest {
     @Test
     void can_get_popular_theme() {
         // given
-        List<PopularThemeResponse> popularThemes = themeService.getPopularThemes();
+        List<PopularThemeResponse> popularThemes = themeService.getPopularThemes(
+                new PopularThemeRequest(null, null, null));
         // when & then
         assertThat(popularThemes).containsExactly(
                 new PopularThemeResponse("테스트1", "썸네일", "설명"),
                 new PopularThemeResponse("테스트3", "썸네일", "설명")
         );
     }
+
+    @DisplayName("조회 기간과 개수를 지정해 인기 테마를 가져올 수 있다.")
+    @Test
+    void can_get_popular_theme_with_condition() {
+        // when
+        List<PopularThemeResponse> recentThemes = themeService.getPopularThemes(new PopularThemeRequest(2, 1, null));
+        List<PopularThemeResponse> topTheme = themeService.getPopularThemes(new PopularThemeRequest(null, null, 1));
+        // then
+        assertThat(recentThemes).containsExactly(new PopularThemeResponse("테스트1", "썸네일", "설명"));
+        assertThat(topTheme).containsExactly(new PopularThemeResponse("테스트1", "썸네일", "설명"));
+    }
+
+    @DisplayName("테마를 추가하고 삭제하면 카탈로그의 버전이 올라가고 목록에 바로 반영된다.")
+    @Test
+    void catalog_follows_create_and_delete() {
+        // given
+        long version = referenceCatalog.getVersion();
+        // when
+        ThemeResponse created = themeService.createTheme(new ThemeRequest("테스트4", "설명", "썸네일"));
+        themeService.deleteThemeById(2L);
+        // then
+        List<String> names = themeService.getThemes().stream()
+                .map(ThemeResponse::name)
+                .toList();
+        assertThat(names).containsExactly("테스트1", "테스트3", "테스트4");
+        assertThat(referenceCatalog.findTheme(created.id())).isPresent();
+        assertThat(referenceCatalog.getVersion()).isEqualTo(version + 2);
+    }
 }
@@ -0,0 +1,78 @@
+package roomescape.waiting.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WaitingLineTest {
+
+    private final WaitingLine waitingLine = new WaitingLine();
+
+    @Test
+    @DisplayName("들어온 순서대로 대기 순번을 매긴다.")
+    void rank_test() {
+        // given
+        waitingLine.add(10L);
+        waitingLine.add(20L);
+        waitingLine.add(30L);
+        // when & then
+        assertThat(waitingLine.rankOf(10L)).isEqualTo(1);
+        assertThat(waitingLine.rankOf(20L)).isEqualTo(2);
+        assertThat(waitingLine.rankOf(30L)).isEqualTo(3);
+        assertThat(waitingLine.first()).contains(10L);
+    }
+
+    @Test
+    @DisplayName("중간 대기가 빠지면 뒤의 순번이 당겨진다.")
+    void remove_test() {
+        // given
+        waitingLine.add(10L);
+        waitingLine.add(20L);
+        waitingLine.add(30L);
+        // when
+        waitingLine.remove(20L);
+        // then
+        assertThat(waitingLine.rankOf(20L)).isZero();
+        assertThat(waitingLine.rankOf(30L)).isEqualTo(2);
+        assertThat(waitingLine.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("첫 대기가 빠지면 다음 대기가 맨 앞이 된다.")
+    void first_after_remove_test() {
+        // given
+        waitingLine.add(10L);
+        waitingLine.add(20L);
+        // when
+        waitingLine.remove(10L);
+        // then
+        assertThat(waitingLine.first()).contains(20L);
+        assertThat(waitingLine.rankOf(20L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량을 넘겨 추가와 삭제를 반복해도 순번이 유지된다.")
+    void grow_and_compact_test() {
+        // given
+        for (long id = 1; id <= 100; id++) {
+            waitingLine.add(id);
+            if (id % 2 == 0) {
+                waitingLine.remove(id - 1);
+            }
+        }
+        // when & then
+        assertThat(waitingLine.size()).isEqualTo(50);
+        assertThat(waitingLine.first()).contains(2L);
+        assertThat(waitingLine.rankOf(100L)).isEqualTo(50);
+        assertThat(waitingLine.rankOf(52L)).isEqualTo(26);
+    }
+
+    @Test
+    @DisplayName("대기가 없으면 맨 앞이 비어 있다.")
+    void empty_test() {
+        // when & then
+        assertThat(waitingLine.first()).isEmpty();
+        assertThat(waitingLine.isEmpty()).isTrue();
+    }
+}
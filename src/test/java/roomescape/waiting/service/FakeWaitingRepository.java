@@ -0,0 +1,119 @@
+package roomescape.waiting.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationKey;
+import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.domain.WaitingRepository;
+import roomescape.waiting.domain.WaitingView;
+
+public class FakeWaitingRepository implements WaitingRepository {
+
+    private final List<Waiting> waitings;
+    private final List<Reservation> reservations;
+
+    private AtomicLong index = new AtomicLong(0);
+
+    public FakeWaitingRepository(List<Waiting> waitings) {
+        this(waitings, new ArrayList<>());
+    }
+
+    public FakeWaitingRepository(List<Waiting> waitings, List<Reservation> reservations) {
+        this.waitings = waitings;
+        this.reservations = reservations;
+    }
+
+    @Override
+    public Waiting save(Waiting waiting) {
+        if (hasSameMemberSlot(waiting)) {
+            throw new IllegalArgumentException("이미 예약 대기 중입니다.");
+        }
+        long currentIndex = index.incrementAndGet();
+
+        waitings.add(waiting.assignId(currentIndex));
+        return waiting.assignId(currentIndex);
+    }
+
+    @Override
+    public Optional<Waiting> findById(Long id) {
+        return waitings.stream()
+                .filter(waiting -> Objects.equals(waiting.getId(), id))
+                .findAny();
+    }
+
+    @Override
+    public List<Waiting> findAll() {
+        return Collections.unmodifiableList(waitings);
+    }
+
+    @Override
+    public List<Waiting> findByMemberId(Long memberId) {
+        return waitings.stream()
+                .filter(waiting -> waiting.memberId().equals(memberId))
+                .toList();
+    }
+
+    @Override
+    public List<WaitingView> findPageByMemberId(Long memberId, ReservationKey after, int size) {
+        Comparator<ReservationKey> keyOrder = Comparator.comparing(ReservationKey::date)
+                .thenComparing(ReservationKey::startAt)
+                .thenComparing(ReservationKey::id);
+        return findByMemberId(memberId).stream()
+                .filter(waiting -> after == null || keyOrder.compare(keyOf(waiting), after) > 0)
+                .sorted(Comparator.comparing(this::keyOf, keyOrder))
+                .limit(size)
+                .map(waiting -> new WaitingView(waiting.getId(), waiting.getDate(), waiting.timeId(),
+                        waiting.reservationTime(), waiting.themeId(), waiting.themeName()))
+                .toList();
+    }
+
+    private ReservationKey keyOf(Waiting waiting) {
+        return new ReservationKey(waiting.getDate(), waiting.reservationTime(), waiting.getId());
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        findById(id).ifPresent(waitings::remove);
+    }
+
+    @Override
+    public int deleteByReservationIdIn(List<Long> reservationIds) {
+        List<Reservation> cancelled = reservations.stream()
+                .filter(reservation -> reservationIds.contains(reservation.getId()))
+                .toList();
+        int size = waitings.size();
+        waitings.removeIf(waiting -> cancelled.stream().anyMatch(reservation -> isSameSlot(waiting, reservation)));
+        return size - waitings.size();
+    }
+
+    @Override
+    public int deleteByCondition(Long themeId, Long timeId, LocalDate dateFrom, LocalDate dateTo) {
+        int size = waitings.size();
+        waitings.removeIf(waiting -> (themeId == null || waiting.themeId().equals(themeId))
+                && (timeId == null || waiting.timeId().equals(timeId))
+                && (dateFrom == null || !waiting.getDate().isBefore(dateFrom))
+                && (dateTo == null || !waiting.getDate().isAfter(dateTo)));
+        return size - waitings.size();
+    }
+
+    private boolean isSameSlot(Waiting waiting, Reservation reservation) {
+        return waiting.getDate().equals(reservation.getDate())
+                && waiting.themeId().equals(reservation.themeId())
+                && waiting.timeId().equals(reservation.timeId());
+    }
+
+    private boolean hasSameMemberSlot(Waiting waiting) {
+        return waitings.stream()
+                .anyMatch(savedWaiting -> savedWaiting.memberId().equals(waiting.memberId())
+                        && savedWaiting.getDate().equals(waiting.getDate())
+                        && savedWaiting.themeId().equals(waiting.themeId())
+                        && savedWaiting.timeId().equals(waiting.timeId()));
+    }
+}
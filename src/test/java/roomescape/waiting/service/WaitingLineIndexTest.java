@@ -0,0 +1,56 @@
+package roomescape.waiting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WaitingLineIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 10, 6);
+
+    private WaitingLineIndex waitingLineIndex = new WaitingLineIndex(new FakeWaitingRepository(new ArrayList<>()));
+
+    @Test
+    @DisplayName("대기가 없는 슬롯을 조회해도 대기열이 생기지 않는다.")
+    void read_does_not_create_line_test() {
+        // when
+        int rank = waitingLineIndex.rankOf(1L, DATE, 1L, 1L);
+        boolean hasFirst = waitingLineIndex.first(1L, DATE, 1L).isPresent();
+        // then
+        assertThat(rank).isZero();
+        assertThat(hasFirst).isFalse();
+        assertThat(waitingLineIndex.lineCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업이 끝난 뒤 비어 있는 대기열은 정리한다.")
+    void empty_line_removed_after_action_test() {
+        // given
+        waitingLineIndex.add(1L, DATE, 1L, 1L);
+        // when
+        waitingLineIndex.withLine(1L, DATE, 1L, () -> {
+            waitingLineIndex.remove(1L, DATE, 1L, 1L);
+            return null;
+        });
+        waitingLineIndex.withLine(1L, DATE, 2L, () -> null);
+        // then
+        assertThat(waitingLineIndex.lineCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비운 대기열은 정리하고 이후 대기는 새 대기열에 쌓인다.")
+    void clear_test() {
+        // given
+        waitingLineIndex.add(1L, DATE, 1L, 1L);
+        // when
+        waitingLineIndex.clear(1L, DATE, 1L);
+        waitingLineIndex.add(1L, DATE, 1L, 2L);
+        // then
+        assertThat(waitingLineIndex.rankOf(1L, DATE, 1L, 1L)).isZero();
+        assertThat(waitingLineIndex.rankOf(1L, DATE, 1L, 2L)).isEqualTo(1);
+        assertThat(waitingLineIndex.lineCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,133 @@
+package roomescape.waiting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.common.catalog.ReferenceCatalog;
+import roomescape.common.util.DateTime;
+import roomescape.member.domain.Member;
+import roomescape.member.domain.MemberRepository;
+import roomescape.member.domain.Role;
+import roomescape.member.service.FakeMemberRepository;
+import roomescape.reservation.domain.Reservation;
+import roomescape.reservation.domain.ReservationRepository;
+import roomescape.reservation.service.FakeReservationRepository;
+import roomescape.reservation.service.FakeReservationTimeRepository;
+import roomescape.reservation.service.FakeThemeRepository;
+import roomescape.reservationTime.domain.ReservationTime;
+import roomescape.reservationTime.domain.ReservationTimeRepository;
+import roomescape.theme.domain.Theme;
+import roomescape.theme.domain.ThemeRepository;
+import roomescape.waiting.domain.Waiting;
+import roomescape.waiting.domain.WaitingRepository;
+import roomescape.waiting.dto.request.WaitingRequest;
+import roomescape.waiting.dto.response.WaitingResponse;
+
+class WaitingServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 10, 6);
+
+    private DateTime dateTime = new DateTime() {
+        @Override
+        public LocalDateTime now() {
+            return LocalDateTime.of(2025, 10, 5, 10, 0);
+        }
+
+        @Override
+        public LocalDate nowDate() {
+            return LocalDate.of(2025, 10, 5);
+        }
+    };
+
+    private List<Reservation> reservations = new ArrayList<>();
+    private List<Waiting> waitings = new ArrayList<>();
+    private ThemeRepository themeRepository = new FakeThemeRepository(new ArrayList<>(), reservations);
+    private ReservationTimeRepository reservationTimeRepository = new FakeReservationTimeRepository(new ArrayList<>());
+    private ReservationRepository reservationRepository = new FakeReservationRepository(reservations);
+    private MemberRepository memberRepository = new FakeMemberRepository(new ArrayList<>());
+    private WaitingRepository waitingRepository = new FakeWaitingRepository(waitings);
+    private WaitingLineIndex waitingLineIndex = new WaitingLineIndex(waitingRepository);
+    private ReferenceCatalog referenceCatalog = new ReferenceCatalog(themeRepository, reservationTimeRepository);
+    private WaitingService waitingService = new WaitingService(dateTime, waitingRepository, reservationRepository,
+            referenceCatalog, memberRepository, waitingLineIndex);
+
+    @BeforeEach
+    void beforeEach() {
+        Theme theme = Theme.createWithId(1L, "테스트1", "설명", "localhost:8080");
+        themeRepository.save(theme);
+        ReservationTime time = reservationTimeRepository.save(ReservationTime.createWithoutId(LocalTime.of(10, 0)));
+        Member owner = Member.createWithId(1L, "홍길동", "a@com", "a", Role.USER);
+        memberRepository.save(owner);
+        memberRepository.save(Member.createWithId(2L, "김철수", "b@com", "b", Role.USER));
+        memberRepository.save(Member.createWithId(3L, "이영희", "c@com", "c", Role.USER));
+        reservationRepository.save(Reservation.createWithoutId(dateTime.now(), owner, DATE, time, theme));
+        referenceCatalog.reload();
+    }
+
+    @Test
+    @DisplayName("예약된 시간에 대기를 걸면 들어온 순서대로 순번을 받는다.")
+    void createWaiting_rank_test() {
+        // when
+        WaitingResponse first = waitingService.createWaiting(new WaitingRequest(DATE, 1L, 1L), 2L);
+        WaitingResponse second = waitingService.createWaiting(new WaitingRequest(DATE, 1L, 1L), 3L);
+        // then
+        assertThat(first.rank()).isEqualTo(1);
+        assertThat(second.rank()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예약이 없는 시간에는 대기를 걸 수 없다.")
+    void cant_wait_on_free_slot() {
+        assertThatThrownBy(() -> waitingService.createWaiting(new WaitingRequest(DATE.plusDays(1), 1L, 1L), 2L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("본인이 예약한 시간에는 대기를 걸 수 없다.")
+    void cant_wait_on_own_reservation() {
+        assertThatThrownBy(() -> waitingService.createWaiting(new WaitingRequest(DATE, 1L, 1L), 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 시간에 중복으로 대기를 걸 수 없다.")
+    void cant_wait_twice() {
+        // given
+        waitingService.createWaiting(new WaitingRequest(DATE, 1L, 1L), 2L);
+        // when & then
+        assertThatThrownBy(() -> waitingService.createWaiting(new WaitingRequest(DATE, 1L, 1L), 2L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 예약 대기 중입니다.");
+    }
+
+    @Test
+    @DisplayName("대기를 취소하면 뒤의 대기 순번이 당겨진다.")
+    void deleteWaiting_test() {
+        // given
+        WaitingResponse first = waitingService.createWaiting(new WaitingRequest(DATE, 1L, 1L), 2L);
+        WaitingResponse second = waitingService.createWaiting(new WaitingRequest(DATE, 1L, 1L), 3L);
+        // when
+        waitingService.deleteWaitingById(first.id(), 2L);
+        // then
+        assertThat(waitings).hasSize(1);
+        assertThat(waitingLineIndex.rankOf(1L, DATE, 1L, second.id())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 사람의 대기는 취소할 수 없다.")
+    void cant_delete_other_member_waiting() {
+        // given
+        WaitingResponse waiting = waitingService.createWaiting(new WaitingRequest(DATE, 1L, 1L), 2L);
+        // when & then
+        assertThatThrownBy(() -> waitingService.deleteWaitingById(waiting.id(), 3L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}